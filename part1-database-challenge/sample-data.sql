@@ -119,7 +119,7 @@ DECLARE
     i INTEGER;
 BEGIN
     FOR v_txn_record IN 
-        SELECT txn_id, amount, local_txn_date_time, currency 
+        SELECT txn_id, txn_date, amount, local_txn_date_time, currency 
         FROM operators.transaction_master 
     LOOP
         -- Random number of details (3-7 per transaction)
@@ -128,6 +128,7 @@ BEGIN
         FOR i IN 1..v_detail_count LOOP
             INSERT INTO operators.transaction_details (
                 master_txn_id,
+                txn_date,
                 detail_type,
                 amount,
                 currency,
@@ -135,6 +136,7 @@ BEGIN
                 local_txn_date_time
             ) VALUES (
                 v_txn_record.txn_id,
+                v_txn_record.txn_date,
                 v_detail_types[(i % 3) + 1],
                 (v_txn_record.amount * (0.01 + RANDOM() * 0.05))::DECIMAL(15,2), -- 1-6% of transaction
                 v_txn_record.currency,
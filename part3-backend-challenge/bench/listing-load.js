@@ -0,0 +1,36 @@
+// k6 load test for the merchant transaction listing.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MERCHANT_ID=MERCH001 -e VUS=200 bench/listing-load.js
+//
+// Run it once per server configuration (for example REPOSITORY_DRIVER=jdbc and REPOSITORY_DRIVER=r2dbc, or
+// CONTROLLER_EXECUTION_MODE=reactor and CONTROLLER_EXECUTION_MODE=virtual) and compare the http_req_duration p(99)
+// and throughput lines of the summary. ENDPOINT=merchants drives the merchant listing instead.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MERCHANT_ID = __ENV.MERCHANT_ID || 'MERCH001';
+const START_DATE = __ENV.START_DATE || '2025-11-16';
+const END_DATE = __ENV.END_DATE || '2025-11-18';
+const ENDPOINT = __ENV.ENDPOINT || 'transactions';
+
+export const options = {
+    scenarios: {
+        listing: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 100),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const page = Math.floor(Math.random() * 10);
+    const url = ENDPOINT === 'merchants'
+        ? `${BASE_URL}/api/v1/merchants?page=${page}&size=10`
+        : `${BASE_URL}/api/v1/merchant-transaction/${MERCHANT_ID}/transactions` +
+            `?page=${page}&size=20&startDate=${START_DATE}&endDate=${END_DATE}`;
+    const res = http.get(url);
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,464 @@
+package com.payment.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads production-shaped synthetic data into a local Postgres with {@code COPY}: members, merchants, transaction
+ * masters and their details. Merchant popularity follows a Zipf distribution, volume grows towards the end date with
+ * quieter weekends and a daytime peak, and amounts are log-normal.
+ * <p>
+ * Masters are generated in chunks of {@code --chunk-size}, each from its own seeded random stream, so the same
+ * {@code --seed} produces the same data whatever {@code --threads} is. Every worker thread has its own connection and
+ * copies a chunk's masters and then its details, each as one {@code COPY}.
+ * <pre>
+ * mvn -Pdatagen test-compile exec:exec -Ddatagen.args="--masters 5000000 --truncate"
+ * </pre>
+ * Options: {@code --url --user --password} (default to the application's {@code DB_*} variables), {@code --masters}
+ * (5000000), {@code --details-per-master} (average, 5), {@code --merchants} (5000), {@code --members} (200),
+ * {@code --days} (365), {@code --end-date} (today, UTC), {@code --merchant-skew} (Zipf exponent, 1.1), {@code --seed}
+ * (42), {@code --threads} (available processors), {@code --chunk-size} (10000), {@code --truncate} (empty the tables
+ * first; without it the tables must already be empty).
+ */
+public final class DataGenerator {
+
+    private static final String SCHEMA = "operators";
+
+    private static final String[] COUNTRIES = {"USA", "GBR", "SGP", "CAN", "DEU", "FRA", "JPN", "AUS", "BRA", "IND"};
+    private static final Map<String, String> CURRENCIES = Map.of("GBR", "GBP", "DEU", "EUR", "FRA", "EUR", "JPN", "JPY",
+            "SGP", "SGD", "CAN", "CAD", "AUS", "AUD");
+    private static final String[] BUSINESS_TYPES = {"retail", "ecommerce", "travel", "food", "services", "digital"};
+    private static final String[] RISK_LEVELS = {"low", "medium", "high"};
+
+    private static final String[] CARD_TYPES = {"VISA", "MASTERCARD", "AMEX", "DISCOVER"};
+    private static final double[] CARD_WEIGHTS = {50, 30, 12, 8};
+    private static final String[] STATUSES = {"completed", "pending", "failed", "reversed"};
+    private static final double[] STATUS_WEIGHTS = {90, 6, 3, 1};
+    private static final String[] RESPONSE_CODES = {"00", "01", "05", "00"};
+    private static final String[] DETAIL_TYPES = {"fee", "tax", "adjustment", "refund", "chargeback"};
+    private static final double[] DETAIL_WEIGHTS = {40, 30, 15, 10, 5};
+    /** Typical detail amount as a share of the master amount, per detail type. */
+    private static final double[] DETAIL_SHARES = {0.029, 0.08, 0.01, 0.5, 1.0};
+    private static final double[] HOUR_WEIGHTS = {
+            1, 0.6, 0.4, 0.3, 0.3, 0.5, 1, 2, 3.5, 4.5, 5, 5.5,
+            6, 5.5, 5, 5, 5.2, 5.8, 6.5, 7, 6, 4.5, 3, 1.8};
+
+    private static final String COPY_MEMBERS = "COPY operators.members "
+            + "(member_id, member_name, member_type, member_code, country, status) FROM STDIN";
+    private static final String COPY_MERCHANTS = "COPY operators.merchants "
+            + "(merchant_id, merchant_code, merchant_name, business_type, country, acquirer_id, settlement_currency, "
+            + "risk_level, daily_txn_limit, monthly_txn_limit, status) FROM STDIN";
+    private static final String COPY_MASTERS = "COPY operators.transaction_master "
+            + "(txn_id, merchant_id, gp_acquirer_id, gp_issuer_id, txn_date, local_txn_date_time, amount, currency, "
+            + "status, card_type, card_last4, auth_code, response_code, created_at) FROM STDIN";
+    private static final String COPY_DETAILS = "COPY operators.transaction_details "
+            + "(master_txn_id, detail_type, amount, currency, description, local_txn_date_time, created_at) FROM STDIN";
+    private static final String COPY_DETAILS_WITH_DATE = "COPY operators.transaction_details "
+            + "(master_txn_id, txn_date, detail_type, amount, currency, description, local_txn_date_time, created_at) "
+            + "FROM STDIN";
+
+    private final Options options;
+    private final WeightedSampler merchantSampler;
+    private final WeightedSampler issuerSampler;
+    private final WeightedSampler daySampler;
+    private final WeightedSampler hourSampler = new WeightedSampler(HOUR_WEIGHTS);
+    private final WeightedSampler cardSampler = new WeightedSampler(CARD_WEIGHTS);
+    private final WeightedSampler statusSampler = new WeightedSampler(STATUS_WEIGHTS);
+    private final WeightedSampler detailSampler = new WeightedSampler(DETAIL_WEIGHTS);
+
+    private final long[] issuerIds;
+    private final String[] merchantCodes;
+    private final long[] merchantAcquirers;
+    private final String[] merchantCurrencies;
+    private final LocalDate[] days;
+    private final String[] dayPrefixes;
+    private final AtomicLong nextChunk = new AtomicLong();
+    private final AtomicLong mastersLoaded = new AtomicLong();
+    private final AtomicLong detailsLoaded = new AtomicLong();
+
+    private boolean partitioned;
+    private boolean detailsHaveDate;
+    private boolean merchantsTable;
+
+    DataGenerator(Options options) {
+        this.options = options;
+        SplittableRandom random = new SplittableRandom(options.seed);
+
+        // Members: the first fifth acquirers, the next tenth both, the rest issuers.
+        int acquirers = Math.max(1, options.members / 5);
+        int both = Math.max(0, options.members / 10);
+        List<Long> acquirerIds = new ArrayList<>();
+        List<Long> issuers = new ArrayList<>();
+        for (long id = 1; id <= options.members; id++) {
+            String type = memberType(id, acquirers, both);
+            if (!type.equals("issuer")) {
+                acquirerIds.add(id);
+            }
+            if (!type.equals("acquirer")) {
+                issuers.add(id);
+            }
+        }
+        issuerIds = issuers.stream().mapToLong(Long::longValue).toArray();
+        issuerSampler = WeightedSampler.zipf(issuerIds.length, 0.8);
+        WeightedSampler acquirerSampler = WeightedSampler.zipf(acquirerIds.size(), 1.0);
+
+        merchantCodes = new String[options.merchants];
+        merchantAcquirers = new long[options.merchants];
+        merchantCurrencies = new String[options.merchants];
+        for (int i = 0; i < options.merchants; i++) {
+            merchantCodes[i] = merchantCode(i + 1);
+            merchantAcquirers[i] = acquirerIds.get(acquirerSampler.next(random));
+            merchantCurrencies[i] = CURRENCIES.getOrDefault(COUNTRIES[i % COUNTRIES.length], "USD");
+        }
+        merchantSampler = WeightedSampler.zipf(options.merchants, options.merchantSkew);
+
+        // Volume triples over the range, and weekends see 30% less.
+        days = new LocalDate[options.days];
+        dayPrefixes = new String[options.days];
+        double[] dayWeights = new double[options.days];
+        for (int d = 0; d < options.days; d++) {
+            LocalDate day = options.endDate.minusDays(options.days - 1 - d);
+            days[d] = day;
+            dayPrefixes[d] = day + " ";
+            double growth = Math.pow(3.0, (double) d / Math.max(1, options.days - 1));
+            boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            dayWeights[d] = growth * (weekend ? 0.7 : 1.0);
+        }
+        daySampler = new WeightedSampler(dayWeights);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        DataGenerator generator = new DataGenerator(options);
+        long started = System.nanoTime();
+        generator.run();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Loaded %,d masters and %,d details in %.1fs (%,.0f masters/s)%n",
+                generator.mastersLoaded.get(), generator.detailsLoaded.get(), seconds,
+                generator.mastersLoaded.get() / seconds);
+    }
+
+    void run() throws Exception {
+        try (Connection connection = connect()) {
+            inspect(connection);
+            prepare(connection);
+            loadMembers(connection);
+            if (merchantsTable) {
+                loadMerchants(connection);
+            }
+        }
+
+        loadTransactions();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval('operators.transaction_master_txn_id_seq', " + Math.max(1, options.masters) + ")");
+            statement.execute("SELECT setval('operators.members_member_id_seq', " + options.members + ")");
+            if (merchantsTable) {
+                statement.execute("SELECT setval('operators.merchants_merchant_id_seq', " + options.merchants + ")");
+                statement.execute("SELECT setval('operators.merchant_code_seq', " + options.merchants + ")");
+            }
+            System.out.println("Analyzing");
+            statement.execute("ANALYZE operators.members, operators.transaction_master, operators.transaction_details");
+            if (merchantsTable) {
+                statement.execute("ANALYZE operators.merchants");
+            }
+        }
+    }
+
+    private void inspect(Connection connection) throws SQLException {
+        partitioned = queryBoolean(connection, """
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_partitioned_table pt
+                    JOIN pg_class c ON c.oid = pt.partrelid
+                    JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE n.nspname = 'operators' AND c.relname = 'transaction_master'
+                )
+                """);
+        detailsHaveDate = queryBoolean(connection, """
+                SELECT EXISTS (
+                    SELECT 1 FROM information_schema.columns
+                    WHERE table_schema = 'operators' AND table_name = 'transaction_details' AND column_name = 'txn_date'
+                )
+                """);
+        merchantsTable = queryBoolean(connection, "SELECT to_regclass('operators.merchants') IS NOT NULL");
+    }
+
+    private void prepare(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (options.truncate) {
+                List<String> tables = new ArrayList<>(List.of("transaction_details", "transaction_master", "members"));
+                for (String optional : List.of("merchants", "daily_settlements", "settlement_runs",
+                        "transaction_status_failures")) {
+                    if (queryBoolean(connection, "SELECT to_regclass('operators." + optional + "') IS NOT NULL")) {
+                        tables.add(optional);
+                    }
+                }
+                System.out.println("Truncating " + tables);
+                statement.execute("TRUNCATE " + String.join(", ", tables.stream().map(t -> SCHEMA + "." + t).toList())
+                        + " RESTART IDENTITY CASCADE");
+            } else if (queryBoolean(connection, "SELECT EXISTS (SELECT 1 FROM operators.transaction_master)")
+                    || queryBoolean(connection, "SELECT EXISTS (SELECT 1 FROM operators.members)")) {
+                throw new IllegalStateException("operators.members or operators.transaction_master is not empty; "
+                        + "pass --truncate to replace their contents");
+            }
+
+            if (partitioned) {
+                System.out.println("Creating daily partitions for " + days[0] + " to " + days[days.length - 1]);
+                for (LocalDate day : days) {
+                    for (String table : List.of("transaction_master", "transaction_details")) {
+                        statement.execute("CREATE TABLE IF NOT EXISTS operators." + table + "_p"
+                                + day.toString().replace("-", "") + " PARTITION OF operators." + table
+                                + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                    }
+                }
+            }
+        }
+    }
+
+    private void loadMembers(Connection connection) throws SQLException, IOException {
+        int acquirers = Math.max(1, options.members / 5);
+        int both = Math.max(0, options.members / 10);
+        StringBuilder rows = new StringBuilder(options.members * 64);
+        for (long id = 1; id <= options.members; id++) {
+            String type = memberType(id, acquirers, both);
+            rows.append(id).append('\t')
+                    .append(type.equals("issuer") ? "Issuer Bank " : "Acquirer Bank ").append(id).append('\t')
+                    .append(type).append('\t')
+                    .append("GEN-").append(pad(id, 5)).append('\t')
+                    .append(COUNTRIES[(int) (id % COUNTRIES.length)]).append('\t')
+                    .append("active").append('\n');
+        }
+        copy(connection, COPY_MEMBERS, rows);
+        System.out.printf("Loaded %,d members%n", options.members);
+    }
+
+    private void loadMerchants(Connection connection) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(options.seed + 1);
+        StringBuilder rows = new StringBuilder(options.merchants * 160);
+        for (int i = 0; i < options.merchants; i++) {
+            String country = COUNTRIES[i % COUNTRIES.length];
+            long dailyLimit = 10_000L * (1 + random.nextInt(100));
+            rows.append(i + 1).append('\t')
+                    .append(merchantCodes[i]).append('\t')
+                    .append("Merchant ").append(i + 1).append('\t')
+                    .append(BUSINESS_TYPES[random.nextInt(BUSINESS_TYPES.length)]).append('\t')
+                    .append(country).append('\t')
+                    .append(merchantAcquirers[i]).append('\t')
+                    .append(merchantCurrencies[i]).append('\t')
+                    .append(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)]).append('\t')
+                    .append(dailyLimit).append(".00\t")
+                    .append(dailyLimit * 30).append(".00\t")
+                    .append(random.nextInt(20) == 0 ? "inactive" : "active").append('\n');
+        }
+        copy(connection, COPY_MERCHANTS, rows);
+        System.out.printf("Loaded %,d merchants%n", options.merchants);
+    }
+
+    private void loadTransactions() throws Exception {
+        long chunks = (options.masters + options.chunkSize - 1) / options.chunkSize;
+        System.out.printf("Loading %,d masters in %,d chunks on %d threads%n", options.masters, chunks, options.threads);
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < options.threads; t++) {
+            futures.add(workers.submit(() -> {
+                try (Connection connection = connect()) {
+                    long chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        loadChunk(connection, chunk);
+                    }
+                }
+                return null;
+            }));
+        }
+        workers.shutdown();
+        while (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            System.out.printf("  %,d masters, %,d details%n", mastersLoaded.get(), detailsLoaded.get());
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+    }
+
+    private void loadChunk(Connection connection, long chunk) throws SQLException, IOException {
+        long firstId = chunk * options.chunkSize + 1;
+        long lastId = Math.min(options.masters, firstId + options.chunkSize - 1);
+        int count = (int) (lastId - firstId + 1);
+        SplittableRandom random = new SplittableRandom(options.seed * 0x9E3779B97F4A7C15L + chunk);
+
+        StringBuilder masters = new StringBuilder(count * 170);
+        StringBuilder details = new StringBuilder(count * options.detailsPerMaster * 120);
+        long detailCount = 0;
+
+        for (long txnId = firstId; txnId <= lastId; txnId++) {
+            int merchant = merchantSampler.next(random);
+            int day = daySampler.next(random);
+            int second = hourSampler.next(random) * 3600 + random.nextInt(3600);
+            int createdSecond = Math.min(86_399, second + random.nextInt(5));
+            int status = statusSampler.next(random);
+            long cents = Math.max(50, Math.min(2_500_000, Math.round(Math.exp(3.6 + 1.1 * random.nextGaussian()) * 100)));
+            String currency = merchantCurrencies[merchant];
+
+            masters.append(txnId).append('\t')
+                    .append(merchantCodes[merchant]).append('\t')
+                    .append(merchantAcquirers[merchant]).append('\t')
+                    .append(issuerIds[issuerSampler.next(random)]).append('\t')
+                    .append(days[day]).append('\t');
+            timestamp(masters, day, second).append('\t');
+            money(masters, cents).append('\t')
+                    .append(currency).append('\t')
+                    .append(STATUSES[status]).append('\t')
+                    .append(CARD_TYPES[cardSampler.next(random)]).append('\t')
+                    .append(pad(random.nextInt(10_000), 4)).append('\t');
+            if (status == 0 || status == 3) {
+                masters.append("AUTH").append(pad(random.nextInt(1_000_000), 6));
+            } else {
+                masters.append("\\N");
+            }
+            masters.append('\t').append(RESPONSE_CODES[status]).append('\t');
+            timestamp(masters, day, createdSecond).append('\n');
+
+            int detailsForMaster = random.nextInt(2 * options.detailsPerMaster + 1);
+            for (int d = 0; d < detailsForMaster; d++) {
+                int type = detailSampler.next(random);
+                long detailCents = Math.max(1, Math.round(cents * DETAIL_SHARES[type] * (0.5 + random.nextDouble())));
+                details.append(txnId).append('\t');
+                if (detailsHaveDate) {
+                    details.append(days[day]).append('\t');
+                }
+                details.append(DETAIL_TYPES[type]).append('\t');
+                money(details, detailCents).append('\t')
+                        .append(currency).append('\t')
+                        .append(DETAIL_TYPES[type]).append(" for transaction ").append(txnId).append('\t');
+                timestamp(details, day, second).append('\t');
+                timestamp(details, day, createdSecond).append('\n');
+            }
+            detailCount += detailsForMaster;
+        }
+
+        copy(connection, COPY_MASTERS, masters);
+        copy(connection, detailsHaveDate ? COPY_DETAILS_WITH_DATE : COPY_DETAILS, details);
+        mastersLoaded.addAndGet(count);
+        detailsLoaded.addAndGet(detailCount);
+    }
+
+    private StringBuilder timestamp(StringBuilder out, int day, int secondOfDay) {
+        out.append(dayPrefixes[day]);
+        appendTwoDigits(out, secondOfDay / 3600).append(':');
+        appendTwoDigits(out, secondOfDay / 60 % 60).append(':');
+        return appendTwoDigits(out, secondOfDay % 60).append("+00");
+    }
+
+    private static StringBuilder money(StringBuilder out, long cents) {
+        out.append(cents / 100).append('.');
+        return appendTwoDigits(out, (int) (cents % 100));
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder out, int value) {
+        return out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static String pad(long value, int width) {
+        String digits = Long.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static String memberType(long id, int acquirers, int both) {
+        if (id <= acquirers) {
+            return "acquirer";
+        }
+        return id <= acquirers + both ? "both" : "issuer";
+    }
+
+    private static String merchantCode(int number) {
+        return "MCH-" + pad(number, 5);
+    }
+
+    private static void copy(Connection connection, String sql, CharSequence rows) throws SQLException, IOException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        copyManager.copyIn(sql, new StringReader(rows.toString()));
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.url, options.user, options.password);
+    }
+
+    record Options(String url, String user, String password, long masters, int detailsPerMaster, int merchants,
+                   int members, int days, LocalDate endDate, double merchantSkew, long seed, int threads,
+                   int chunkSize, boolean truncate) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                String key = arg.substring(2);
+                if (key.equals("truncate")) {
+                    values.put(key, "true");
+                } else if (i + 1 < args.length) {
+                    values.put(key, args[++i]);
+                } else {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+            }
+
+            String defaultUrl = "jdbc:postgresql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "5432")
+                    + "/" + env("DB_NAME", "postgres");
+            Options options = new Options(
+                    values.getOrDefault("url", defaultUrl),
+                    values.getOrDefault("user", env("DB_USER", "postgres")),
+                    values.getOrDefault("password", env("DB_PASSWORD", "12345")),
+                    Long.parseLong(values.getOrDefault("masters", "5000000")),
+                    Integer.parseInt(values.getOrDefault("details-per-master", "5")),
+                    Integer.parseInt(values.getOrDefault("merchants", "5000")),
+                    Integer.parseInt(values.getOrDefault("members", "200")),
+                    Integer.parseInt(values.getOrDefault("days", "365")),
+                    values.containsKey("end-date") ? LocalDate.parse(values.get("end-date")) : LocalDate.now(ZoneOffset.UTC),
+                    Double.parseDouble(values.getOrDefault("merchant-skew", "1.1")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Integer.parseInt(values.getOrDefault("threads", Integer.toString(Runtime.getRuntime().availableProcessors()))),
+                    Integer.parseInt(values.getOrDefault("chunk-size", "10000")),
+                    Boolean.parseBoolean(values.getOrDefault("truncate", "false")));
+            if (options.members < 2 || options.merchants < 1 || options.days < 1 || options.masters < 0
+                    || options.threads < 1 || options.chunkSize < 1 || options.detailsPerMaster < 0) {
+                throw new IllegalArgumentException("Sizes must be positive, with at least 2 members");
+            }
+            return options;
+        }
+
+        private static String env(String name, String defaultValue) {
+            String value = System.getenv(name);
+            return value == null || value.isEmpty() ? defaultValue : value;
+        }
+    }
+}
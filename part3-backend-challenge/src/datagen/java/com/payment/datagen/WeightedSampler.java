@@ -0,0 +1,53 @@
+package com.payment.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws indexes {@code 0..n-1} with fixed relative weights by binary search over the cumulative distribution.
+ */
+final class WeightedSampler {
+
+    private final double[] cumulative;
+
+    WeightedSampler(double[] weights) {
+        cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Zipf-like popularity: index {@code k} has weight {@code 1 / (k + 1)^exponent}.
+     */
+    static WeightedSampler zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int next(SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}
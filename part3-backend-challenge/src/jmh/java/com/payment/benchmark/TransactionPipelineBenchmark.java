@@ -0,0 +1,229 @@
+package com.payment.benchmark;
+
+import com.payment.codec.CborMessageBodyWriter;
+import com.payment.codec.SerdeContexts;
+import com.payment.dto.Pagination;
+import com.payment.dto.RestResponse;
+import com.payment.dto.transaction.Detail;
+import com.payment.dto.transaction.StatusSummary;
+import com.payment.dto.transaction.Summary;
+import com.payment.dto.transaction.TransactionFields;
+import com.payment.dto.transaction.TransactionResponse;
+import com.payment.dto.transaction.TransactionRow;
+import com.payment.dto.transaction.Transactions;
+import com.payment.entity.Member;
+import com.payment.entity.TransactionDetail;
+import com.payment.service.member.MemberDirectory;
+import com.payment.service.transaction.TransactionMapper;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU side of a transaction listing: one 100-row page with five details per master, as served by
+ * {@code GET /api/v1/merchant-transaction/{merchantId}/transactions}. Run with {@code -prof gc} for allocation rates.
+ * The encoded sizes of the page as JSON and as CBOR are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionPipelineBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int DETAILS_PER_MASTER = 5;
+    private static final int MEMBERS = 200;
+    private static final String[] STATUSES = {"pending", "completed", "failed", "reversed"};
+    private static final String[] DETAIL_TYPES = {"fee", "tax", "adjustment", "refund", "chargeback"};
+    private static final String[] CARD_TYPES = {"VISA", "MASTERCARD", "AMEX"};
+
+    /** The body type the listing routes declare. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Argument<RestResponse<TransactionResponse>> TYPED_ENVELOPE =
+            (Argument) Argument.of(RestResponse.class, TransactionResponse.class);
+    /** An {@code Object} payload, resolved from its runtime type on every call. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Argument<RestResponse<Object>> ERASED_ENVELOPE =
+            (Argument) Argument.of(RestResponse.class, Object.class);
+
+    private TransactionMapper mapper;
+    private ApplicationContext serdeContext;
+    private ObjectMapper objectMapper;
+    private CborMessageBodyWriter cborWriter;
+
+    private List<TransactionRow> rows;
+    private List<TransactionDetail> details;
+    private List<List<Detail>> groupedDetails;
+    private List<StatusSummary> summaries;
+    private TransactionResponse response;
+    private RestResponse<TransactionResponse> envelope;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+
+        List<Member> members = new ArrayList<>(MEMBERS);
+        for (long id = 1; id <= MEMBERS; id++) {
+            Member member = new Member();
+            member.setMemberId(id);
+            member.setMemberName("Member Bank " + id);
+            members.add(member);
+        }
+        MemberDirectory memberDirectory = new MemberDirectory(null);
+        memberDirectory.load(members);
+        mapper = new TransactionMapper(memberDirectory);
+
+        Instant now = Instant.parse("2025-11-18T12:00:00Z");
+        rows = new ArrayList<>(PAGE_SIZE);
+        details = new ArrayList<>(PAGE_SIZE * DETAILS_PER_MASTER);
+        long detailId = 1;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            long txnId = 1_000_000L - i;
+            Instant createdAt = now.minus(i, ChronoUnit.MINUTES);
+            rows.add(new TransactionRow(
+                    txnId,
+                    1L + random.nextInt(MEMBERS),
+                    1L + random.nextInt(MEMBERS),
+                    amount(random, 100_000),
+                    "USD",
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    CARD_TYPES[random.nextInt(CARD_TYPES.length)],
+                    String.format("%04d", random.nextInt(10_000)),
+                    createdAt,
+                    LocalDate.ofInstant(createdAt, ZoneOffset.UTC)));
+
+            for (int d = 0; d < DETAILS_PER_MASTER; d++) {
+                TransactionDetail td = new TransactionDetail();
+                td.setTxnDetailId(detailId++);
+                td.setMasterTxnId(txnId);
+                td.setDetailType(DETAIL_TYPES[d]);
+                td.setAmount(amount(random, 5_000));
+                td.setCurrency("USD");
+                td.setDescription(DETAIL_TYPES[d] + " for transaction " + txnId);
+                td.setCreatedAt(createdAt);
+                details.add(td);
+            }
+        }
+
+        groupedDetails = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<Detail> forMaster = new ArrayList<>(DETAILS_PER_MASTER);
+            for (int d = 0; d < DETAILS_PER_MASTER; d++) {
+                forMaster.add(mapper.mapToDetail(details.get(i * DETAILS_PER_MASTER + d)));
+            }
+            groupedDetails.add(forMaster);
+        }
+        // The detail query returns rows ordered by master id.
+        details.sort(Comparator.comparing(TransactionDetail::getMasterTxnId));
+
+        summaries = new ArrayList<>(STATUSES.length);
+        for (String status : STATUSES) {
+            summaries.add(new StatusSummary(status, 1_000L + random.nextInt(50_000), amount(random, 100_000_000)));
+        }
+
+        response = new TransactionResponse();
+        response.setMerchantId("MERCH001");
+        response.setDateRange(new TransactionResponse.DateRange(now.minus(30, ChronoUnit.DAYS), now));
+        response.setPagination(new Pagination(0, PAGE_SIZE, 120, 12_000L, true, null));
+        response.setSummary(mapper.calculateSummary(summaries));
+        response.setTransactions(mapper.toTransactions(rows, details, TransactionFields.ALL));
+        envelope = RestResponse.success(response);
+
+        serdeContext = SerdeContexts.start();
+        objectMapper = serdeContext.getBean(ObjectMapper.class);
+        cborWriter = new CborMessageBodyWriter(serdeContext.getBean(SerdeRegistry.class));
+        System.out.printf("%nPage size: JSON %,d bytes, CBOR %,d bytes%n",
+                objectMapper.writeValueAsBytes(response).length, cborWriter.writeValueAsBytes(response).length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serdeContext.close();
+    }
+
+    /**
+     * Detail grouping plus mapping of the whole page, as done for every listing.
+     */
+    @Benchmark
+    public List<Transactions> toTransactions() {
+        return mapper.toTransactions(rows, details, TransactionFields.ALL);
+    }
+
+    @Benchmark
+    public void mapToTransaction(Blackhole blackhole) {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            blackhole.consume(mapper.mapToTransaction(rows.get(i), groupedDetails.get(i), TransactionFields.ALL));
+        }
+    }
+
+    @Benchmark
+    public void mapToDetail(Blackhole blackhole) {
+        for (TransactionDetail td : details) {
+            blackhole.consume(mapper.mapToDetail(td));
+        }
+    }
+
+    @Benchmark
+    public Summary calculateSummary() {
+        return mapper.calculateSummary(summaries);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * The listing response in its envelope, serialized with the declared {@code RestResponse<TransactionResponse>}.
+     */
+    @Benchmark
+    public byte[] serializeEnvelope() throws IOException {
+        return objectMapper.writeValueAsBytes(TYPED_ENVELOPE, envelope);
+    }
+
+    /**
+     * The same envelope with its payload typed as {@code Object}, as before {@code RestResponse} was generic.
+     */
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public byte[] serializeEnvelopeErased() throws IOException {
+        return objectMapper.writeValueAsBytes(ERASED_ENVELOPE, (RestResponse) envelope);
+    }
+
+    @Benchmark
+    public byte[] serializeCbor() throws IOException {
+        return cborWriter.writeValueAsBytes(response);
+    }
+
+    private static BigDecimal amount(Random random, int maxCents) {
+        return BigDecimal.valueOf(1 + random.nextInt(maxCents), 2);
+    }
+}
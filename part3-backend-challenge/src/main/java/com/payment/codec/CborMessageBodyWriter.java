@@ -0,0 +1,130 @@
+package com.payment.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.body.MessageBodyWriter;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.jackson.JacksonEncoder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Set;
+
+/**
+ * Writes response bodies as CBOR (RFC 8949) for callers that send {@code Accept: application/cbor}. Bodies go through
+ * the same serde serializers as JSON, so property names and omitted fields are identical; only the encoding differs.
+ * <p>
+ * {@link #createSpecific} resolves the serializer once per route from the declared body type, such as
+ * {@code RestResponse<TransactionResponse>}; only {@code Object} bodies are looked up per response.
+ * <p>
+ * Amounts, the decimal properties named in {@link #AMOUNT_PROPERTIES}, are written as scaled longs, the integer number
+ * of hundredths ({@code 123.45} is {@code 12345}), matching their {@code DECIMAL(15,2)} and {@code DECIMAL(18,2)}
+ * columns. Any other decimal keeps its value and is written as a CBOR decimal fraction (tag 4).
+ */
+@Singleton
+@Produces(CborMessageBodyWriter.APPLICATION_CBOR)
+public class CborMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = new MediaType(APPLICATION_CBOR);
+    public static final int AMOUNT_SCALE = 2;
+    /** Decimal properties holding money of two-decimal columns, across the bodies this writer produces. */
+    public static final Set<String> AMOUNT_PROPERTIES = Set.of("amount", "totalAmount", "dailyTxnLimit", "monthlyTxnLimit");
+
+    private static final CBORFactory FACTORY = CBORFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private final SerdeRegistry registry;
+    private final Argument<Object> type;
+    private final Serializer<? super Object> serializer;
+
+    @Inject
+    public CborMessageBodyWriter(SerdeRegistry registry) {
+        this(registry, null, null);
+    }
+
+    private CborMessageBodyWriter(SerdeRegistry registry, Argument<Object> type, Serializer<? super Object> serializer) {
+        this.registry = registry;
+        this.type = type;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public MessageBodyWriter<Object> createSpecific(Argument<Object> type) {
+        if (type.getType() == Object.class) {
+            return this;
+        }
+        try {
+            return new CborMessageBodyWriter(registry, type,
+                    registry.findSerializer(type).createSpecific(registry.newEncoderContext(null), type));
+        } catch (SerdeException e) {
+            throw new CodecException("No serializer for " + type + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void writeTo(Argument<Object> type, MediaType mediaType, Object object, MutableHeaders outgoingHeaders,
+                        OutputStream outputStream) throws CodecException {
+        if (!outgoingHeaders.contains(HttpHeaders.CONTENT_TYPE)) {
+            outgoingHeaders.set(HttpHeaders.CONTENT_TYPE, APPLICATION_CBOR);
+        }
+        try {
+            write(type, object, outputStream);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding object [" + object + "] to CBOR: " + e.getMessage(), e);
+        }
+    }
+
+    public byte[] writeValueAsBytes(Object object) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(type == null ? Argument.OBJECT_ARGUMENT : type, object, out);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Argument<Object> type, Object object, OutputStream out) throws IOException {
+        Serializer.EncoderContext context = registry.newEncoderContext(null);
+        Argument<Object> argument = type;
+        Serializer<? super Object> specific = serializer;
+        if (specific == null || !type.equals(this.type)) {
+            argument = type.getType() == Object.class && object != null
+                    ? (Argument<Object>) Argument.of(object.getClass())
+                    : type;
+            specific = registry.findSerializer(argument).createSpecific(context, argument);
+        }
+        try (JsonGenerator generator = new ScaledDecimalGenerator(FACTORY.createGenerator(out))) {
+            specific.serialize(JacksonEncoder.create(generator), context, argument, object);
+        }
+    }
+
+    private static final class ScaledDecimalGenerator extends JsonGeneratorDelegate {
+
+        ScaledDecimalGenerator(JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeNumber(BigDecimal value) throws IOException {
+            if (AMOUNT_PROPERTIES.contains(delegate.getOutputContext().getCurrentName())) {
+                delegate.writeNumber(value.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+            } else {
+                delegate.writeNumber(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.payment.config;
+
+import com.payment.repository.SchemaCatalogRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks at startup that the indexes the transaction queries are written against exist. Without them the
+ * listings still work but fall back to scanning every row of the merchant's range.
+ */
+@Singleton
+@Requires(property = "schema.index-check.enabled", value = "true", defaultValue = "true")
+public class IndexCheck {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexCheck.class);
+
+    static final Map<String, List<String>> EXPECTED = Map.of(
+            "transaction_master", List.of("idx_tm_merchant_created_txn", "idx_tm_merchant_status_created"),
+            "transaction_details", List.of("idx_transaction_details_master_txn_id"));
+
+    private final SchemaCatalogRepository catalogRepository;
+    private final boolean failOnMissing;
+
+    @Inject
+    public IndexCheck(SchemaCatalogRepository catalogRepository,
+                      @Value("${schema.index-check.fail-on-missing:false}") boolean failOnMissing) {
+        this.catalogRepository = catalogRepository;
+        this.failOnMissing = failOnMissing;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        for (Map.Entry<String, List<String>> entry : EXPECTED.entrySet()) {
+            Set<String> existing;
+            try {
+                existing = catalogRepository.listIndexes(entry.getKey());
+            } catch (RuntimeException e) {
+                LOG.warn("Could not read the indexes of {}", entry.getKey(), e);
+                continue;
+            }
+            List<String> missing = entry.getValue().stream().filter(name -> !existing.contains(name)).toList();
+            if (missing.isEmpty()) {
+                continue;
+            }
+            String message = "Missing indexes on operators." + entry.getKey() + ": " + missing
+                    + " (see db/TransactionIndexes.sql)";
+            if (failOnMissing) {
+                throw new IllegalStateException(message);
+            }
+            LOG.warn(message);
+        }
+    }
+}
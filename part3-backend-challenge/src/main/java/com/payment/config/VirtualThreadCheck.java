@@ -0,0 +1,20 @@
+package com.payment.config;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+
+/**
+ * Fails startup when virtual-thread handlers are selected on a JDK without virtual threads, instead of failing
+ * every request for want of the {@code virtual} executor.
+ */
+@Context
+@Requires(property = "controllers.execution-mode", value = "virtual")
+public class VirtualThreadCheck {
+
+    public VirtualThreadCheck() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("controllers.execution-mode=virtual requires JDK 21 or newer, running on "
+                    + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.payment.controller;
+
+import com.payment.dto.RestResponse;
+import com.payment.exception.InvalidParameterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Maps a failed service call to the {@link RestResponse} error envelope, the same way in the reactive and the
+ * virtual-thread controllers.
+ */
+final class ControllerErrors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerErrors.class);
+
+    private ControllerErrors() {
+    }
+
+    /**
+     * Logs the failure, e.g. {@code failed("create merchant", e)}, and wraps its message.
+     */
+    static <T> RestResponse<T> failed(String action, Throwable error) {
+        LOG.error("Failed to {}", action, error);
+        return RestResponse.error(error.getMessage());
+    }
+
+    /**
+     * Like {@link #failed}, except that an {@link InvalidParameterException} is passed on for
+     * {@code InvalidParameterHandler} to answer with 400 Bad Request.
+     */
+    static <T> Mono<RestResponse<T>> resume(String action, Throwable error) {
+        if (error instanceof InvalidParameterException) {
+            return Mono.error(error);
+        }
+        return Mono.just(failed(action, error));
+    }
+}
@@ -0,0 +1,37 @@
+package com.payment.controller;
+
+import com.payment.service.member.MemberDirectory;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Sensitive;
+import io.micronaut.management.endpoint.annotation.Write;
+import jakarta.inject.Inject;
+
+import java.util.Map;
+
+/**
+ * Management endpoint for the in-memory member directory.
+ * GET /members shows the snapshot size, POST /members reloads it after members change. The reload reads the whole
+ * members table, so it stays sensitive while the endpoint's read is open.
+ */
+@Endpoint(id = "members", defaultSensitive = false)
+public class MemberDirectoryEndpoint {
+
+    private final MemberDirectory memberDirectory;
+
+    @Inject
+    public MemberDirectoryEndpoint(MemberDirectory memberDirectory) {
+        this.memberDirectory = memberDirectory;
+    }
+
+    @Read
+    public Map<String, Object> status() {
+        return Map.of("members", memberDirectory.size());
+    }
+
+    @Write
+    @Sensitive(true)
+    public Map<String, Object> refresh() {
+        return Map.of("members", memberDirectory.refresh());
+    }
+}
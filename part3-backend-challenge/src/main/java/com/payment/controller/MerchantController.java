@@ -1,23 +1,31 @@
 package com.payment.controller;
 
+import com.payment.codec.CborMessageBodyWriter;
 import com.payment.dto.RestResponse;
 import com.payment.dto.merchant.CreateMerchantRequest;
+import com.payment.dto.merchant.CreateMerchantResponse;
+import com.payment.dto.merchant.MerchantDetailResponse;
+import com.payment.dto.merchant.MerchantListResponse;
 import com.payment.dto.merchant.UpdateMerchantRequest;
+import com.payment.dto.merchant.UpdateMerchantResponse;
 import com.payment.service.merchant.MerchantService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @Controller("/api/v1/merchants")
+@Requires(property = "controllers.execution-mode", notEquals = "virtual")
 @Tag(name = "Merchants")
 public class MerchantController {
 
-    private static final Logger LOG = LoggerFactory.getLogger(MerchantController.class);
-
     private final MerchantService merchantService;
 
     @Inject
@@ -25,58 +33,48 @@ public class MerchantController {
         this.merchantService = merchantService;
     }
 
-    @Get
-    public Mono<RestResponse> listMerchants(
-            @QueryValue(defaultValue = "0") int page,
-            @QueryValue(defaultValue = "10") int size) {
-        return merchantService.listMerchants(page, size)
+    @Get(produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    public Mono<RestResponse<MerchantListResponse>> listMerchants(
+            @QueryValue(defaultValue = "0") @Min(0) int page,
+            @QueryValue(defaultValue = "10") @Min(1) @Max(100) int size,
+            @QueryValue Optional<String> cursor,
+            @QueryValue Optional<String> status,
+            @QueryValue Optional<String> country,
+            @QueryValue Optional<Long> acquirerId,
+            @QueryValue(defaultValue = "false") boolean withTotals) {
+        var request = MerchantRequests.listing(page, size, cursor, status, country, acquirerId, withTotals);
+        return merchantService.listMerchants(request)
                 .map(RestResponse::success)
-                .onErrorResume(error ->{
-                    LOG.error("Failed to fetch merchant list");
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .onErrorResume(error -> ControllerErrors.resume("fetch merchant list", error));
     }
 
-    @Get("/{id}")
-    public Mono<RestResponse> getMerchant(@PathVariable Long id) {
+    @Get(value = "/{id}", produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    public Mono<RestResponse<MerchantDetailResponse>> getMerchant(@PathVariable Long id) {
         return merchantService.getMerchant(id)
                 .map(RestResponse::success)
-                .onErrorResume(error-> {
-                    LOG.error("Failed to fetch merchant {}", id);
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .onErrorResume(error -> ControllerErrors.resume("fetch merchant " + id, error));
     }
 
     @Post
-    public Mono<RestResponse> createMerchant(@Body @Valid CreateMerchantRequest request) {
+    public Mono<RestResponse<CreateMerchantResponse>> createMerchant(@Body @Valid CreateMerchantRequest request) {
         return merchantService.createMerchant(request)
                 .map(RestResponse::success)
-                .onErrorResume(error -> {
-                    LOG.error("Failed to create merchant");
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .onErrorResume(error -> ControllerErrors.resume("create merchant", error));
     }
 
     @Put("/{id}")
-    public Mono<RestResponse> updateMerchant(
+    public Mono<RestResponse<UpdateMerchantResponse>> updateMerchant(
             @PathVariable Long id,
             @Body @Valid UpdateMerchantRequest request) {
         return merchantService.updateMerchant(id, request)
                 .map(RestResponse::success)
-                .onErrorResume(error -> {
-                    LOG.error("Failed to update merchant {}", id);
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .onErrorResume(error -> ControllerErrors.resume("update merchant " + id, error));
     }
 
     @Delete("/{id}")
-    public Mono<RestResponse> deactivateMerchant(@PathVariable Long id) {
+    public Mono<RestResponse<Void>> deactivateMerchant(@PathVariable Long id) {
         return merchantService.deactivateMerchant(id)
-                .then(Mono.just(RestResponse.success()))
-                .onErrorResume(error -> {
-                    LOG.error("Failed to deactivate merchant {}", id);
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .then(Mono.just(RestResponse.<Void>success()))
+                .onErrorResume(error -> ControllerErrors.resume("deactivate merchant " + id, error));
     }
-
 }
@@ -0,0 +1,40 @@
+package com.payment.controller;
+
+import com.payment.dto.merchant.MerchantListRequest;
+import com.payment.exception.InvalidParameterException;
+
+import java.util.Optional;
+
+/**
+ * Turns the query parameters of the merchant listing into a service request, for both controller modes. A bad
+ * parameter is reported as an {@link InvalidParameterException} before the service is called.
+ */
+final class MerchantRequests {
+
+    private MerchantRequests() {
+    }
+
+    static MerchantListRequest listing(int page, int size, Optional<String> cursor, Optional<String> status,
+                                       Optional<String> country, Optional<Long> acquirerId, boolean withTotals) {
+        var request = new MerchantListRequest();
+        request.setPage(page);
+        request.setSize(size);
+        request.setCursor(cursor.map(MerchantRequests::cursor).orElse(null));
+        request.setStatus(status.orElse(null));
+        request.setCountry(country.orElse(null));
+        request.setAcquirerId(acquirerId.orElse(null));
+        request.setWithTotals(withTotals);
+        return request;
+    }
+
+    /**
+     * The {@code nextCursor} of a previous page: the last merchant id it returned.
+     */
+    private static Long cursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidParameterException("Invalid cursor", e);
+        }
+    }
+}
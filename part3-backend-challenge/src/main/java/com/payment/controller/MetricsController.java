@@ -0,0 +1,31 @@
+package com.payment.controller;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.inject.Inject;
+
+/**
+ * Prometheus scrape target. Replaces the JSON metrics endpoint of Micronaut Management.
+ */
+@Controller("/metrics")
+@Hidden
+public class MetricsController {
+
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Inject
+    public MetricsController(PrometheusMeterRegistry prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = prometheusMeterRegistry;
+    }
+
+    @Get
+    @Produces(PROMETHEUS_TEXT)
+    public String scrape() {
+        return prometheusMeterRegistry.scrape();
+    }
+}
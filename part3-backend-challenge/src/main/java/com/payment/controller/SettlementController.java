@@ -0,0 +1,83 @@
+package com.payment.controller;
+
+import com.payment.dto.RestResponse;
+import com.payment.dto.settlement.SettlementRequest;
+import com.payment.dto.settlement.SettlementResponse;
+import com.payment.dto.settlement.SettlementRunResponse;
+import com.payment.exception.InvalidParameterException;
+import com.payment.service.settlement.SettlementService;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+@Controller("/api/v1/settlements")
+@Tag(name = "Settlements")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    @Inject
+    public SettlementController(SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    @Get
+    @Operation(
+            summary = "Get daily settlements",
+            description = "Completed amount, count, average, fees and refunds per acquirer member, merchant, currency " +
+                    "and day. Only closed days (before today, UTC) are available; both dates default to yesterday. " +
+                    "Reads stored settlements only; days not settled yet or changed since are listed in pendingDays."
+    )
+    public Mono<RestResponse<SettlementResponse>> getSettlements(
+            @QueryValue Optional<String> startDate,
+            @QueryValue Optional<String> endDate,
+            @QueryValue Optional<Long> memberId,
+            @QueryValue Optional<String> merchantId
+    ) {
+        var request = new SettlementRequest();
+        request.setStartDate(date(startDate));
+        request.setEndDate(date(endDate));
+        request.setMemberId(memberId.orElse(null));
+        request.setMerchantId(merchantId.orElse(null));
+
+        return settlementService.getSettlements(request)
+                .map(RestResponse::success)
+                .onErrorResume(error -> ControllerErrors.resume("get settlements", error));
+    }
+
+    @Post("/run")
+    @Operation(
+            summary = "Settle days now",
+            description = "Settles the days from startDate to endDate (both default to yesterday) that are past the " +
+                    "grace period and not settled yet or changed since, without waiting for the scheduled job."
+    )
+    public Mono<RestResponse<SettlementRunResponse>> settle(
+            @QueryValue Optional<String> startDate,
+            @QueryValue Optional<String> endDate
+    ) {
+        LocalDate start = date(startDate);
+        LocalDate end = date(endDate);
+
+        return settlementService.settle(start, end)
+                .map(days -> RestResponse.success(new SettlementRunResponse(start, end, days)))
+                .onErrorResume(error -> ControllerErrors.resume("settle days", error));
+    }
+
+    private static LocalDate date(Optional<String> value) {
+        try {
+            return value.map(LocalDate::parse).orElse(LocalDate.now(ZoneOffset.UTC).minusDays(1));
+        } catch (DateTimeParseException e) {
+            throw new InvalidParameterException("Invalid date format. Expected yyyy-MM-dd", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.payment.controller;
+
+/**
+ * OpenAPI text of the transaction routes, shared by {@link TransactionController} and
+ * {@link VirtualTransactionController} so both modes document the same API.
+ */
+final class TransactionApiDocs {
+
+    static final String LIST_SUMMARY = "Get merchant transactions";
+    static final String LIST_DESCRIPTION = "Returns paginated list of transactions for a merchant. Pass the returned " +
+            "nextCursor as cursor to seek to the following page instead of using page offsets. withTotals=false skips " +
+            "the count and summary, details=false skips the transaction details. fields lists the transaction " +
+            "properties to return, e.g. fields=amount,status,timestamp. Responses carry an ETag; send it back as " +
+            "If-None-Match to get 304 Not Modified while the page is unchanged.";
+
+    static final String CREATE_SUMMARY = "Create new transaction";
+    static final String CREATE_DESCRIPTION = "Creates a new transaction for a merchant.";
+
+    static final String BATCH_SUMMARY = "Create transactions in bulk";
+    static final String BATCH_DESCRIPTION = "Creates many transactions, each with optional details, using batched " +
+            "inserts. Returns a result per item in request order.";
+
+    static final String STATUS_SUMMARY = "Update transaction statuses in bulk";
+    static final String STATUS_DESCRIPTION = "Moves transactions pending to completed or failed, or completed to " +
+            "reversed. Items are applied in concurrent chunks; returns a result per item in request order.";
+
+    private TransactionApiDocs() {
+    }
+}
@@ -1,21 +1,29 @@
 package com.payment.controller;
 
+import com.payment.codec.CborMessageBodyWriter;
 import com.payment.dto.RestResponse;
-import com.payment.dto.transaction.TransactionRequest;
+import com.payment.dto.transaction.BatchTransactionRequest;
+import com.payment.dto.transaction.BatchTransactionResponse;
+import com.payment.dto.transaction.CreateTransactionResponse;
+import com.payment.dto.transaction.StatusUpdateRequest;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.TransactionResponse;
 import com.payment.entity.TransactionMaster;
 import com.payment.service.transaction.TransactionService;
 import com.payment.service.transaction.TransactionServiceImpl;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDate;
 import java.util.Optional;
 
 /**
@@ -26,13 +34,14 @@ import java.util.Optional;
  * 5. Add status filtering
  * 6. Return proper TransactionResponse DTOs
  * 7. Add error handling
+ * <p>
+ * Export and the SSE feed are served by {@link TransactionStreamController} in both execution modes.
  */
 @Controller("/api/v1/merchant-transaction")
+@Requires(property = "controllers.execution-mode", notEquals = "virtual")
 @Tag(name = "Transactions")
 public class TransactionController {
 
-    private static final Logger LOG = LoggerFactory.getLogger(TransactionController.class);
-
     private final TransactionService transactionService;
 
     @Inject
@@ -40,57 +49,60 @@ public class TransactionController {
         this.transactionService = transactionService;
     }
 
-    @Get("/{merchantId}/transactions")
-    @Operation(
-            summary = "Get merchant transactions",
-            description = "Returns paginated list of transactions for a merchant. TODO: Implement proper pagination, filtering, and database queries."
-    )
-    public Mono<RestResponse> getTransactions(
+    @Get(value = "/{merchantId}/transactions", produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    @Operation(summary = TransactionApiDocs.LIST_SUMMARY, description = TransactionApiDocs.LIST_DESCRIPTION)
+    public Mono<HttpResponse<RestResponse<TransactionResponse>>> getTransactions(
             @PathVariable String merchantId,
             @QueryValue(defaultValue = "0") @Min(0) int page,
             @QueryValue(defaultValue = "20") @Min(1) @Max(100) int size,
             @QueryValue Optional<String> startDate,
             @QueryValue Optional<String> endDate,
-            @QueryValue Optional<String> status
+            @QueryValue Optional<String> status,
+            @QueryValue Optional<String> cursor,
+            @QueryValue(defaultValue = "true") boolean withTotals,
+            @QueryValue(defaultValue = "true") boolean details,
+            @QueryValue Optional<String> fields,
+            @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch,
+            @Header(HttpHeaders.ACCEPT) Optional<String> accept
     ) {
-        LocalDate start;
-        LocalDate end;
-        try {
-            start = startDate.map(LocalDate::parse).orElse(LocalDate.now().minusMonths(1));
-            end = endDate.map(LocalDate::parse).orElse(LocalDate.now());
-        } catch (Exception e) {
-            LOG.error("Invalid query parameter for dates", e);
-            return Mono.just(RestResponse.error("Invalid date format. Expected yyyy-MM-dd"));
-        }
-
-        return transactionService.getTransactions(merchantId, page, size, start, end, status.orElse("completed"))
-                .map(RestResponse::success)
-                .onErrorResume(error -> {
-                    LOG.error("Failed to get merchant transactions");
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+        var request = TransactionRequests.listing(merchantId, page, size, startDate, endDate, status, cursor,
+                withTotals, details, fields);
+        return Mono.defer(() -> transactionService.getTransactionListing(request))
+                .map(listing -> TransactionRequests.listingResponse(listing, ifNoneMatch, accept))
+                .onErrorResume(error -> Mono.just(HttpResponse.ok(
+                        ControllerErrors.failed("get merchant transactions", error))));
     }
 
     @Post("/{merchantId}/transactions")
-    @Operation(
-        summary = "Create new transaction",
-        description = "Creates a new transaction for a merchant. TODO: Add validation, error handling, and business logic."
-    )
-    public Mono<RestResponse> createTransaction(
+    @Operation(summary = TransactionApiDocs.CREATE_SUMMARY, description = TransactionApiDocs.CREATE_DESCRIPTION)
+    public Mono<RestResponse<CreateTransactionResponse>> createTransaction(
             @PathVariable String merchantId,
             @Body TransactionMaster transaction
     ) {
-        // TODO: Add validation
-        // TODO: Add error handling
-        // TODO: Move to service layer
-        var request = new TransactionRequest();
-        request.setMerchantId(merchantId);
-        request.setTransaction(transaction);
-        return transactionService.createTransaction(request)
+        return Mono.defer(() -> transactionService.createTransaction(TransactionRequests.create(merchantId, transaction)))
+                .map(RestResponse::success)
+                .onErrorResume(error -> ControllerErrors.resume("create merchant transaction", error));
+    }
+
+    @Post("/{merchantId}/transactions/batch")
+    @Operation(summary = TransactionApiDocs.BATCH_SUMMARY, description = TransactionApiDocs.BATCH_DESCRIPTION)
+    public Mono<RestResponse<BatchTransactionResponse>> createTransactions(
+            @PathVariable String merchantId,
+            @Body @Valid BatchTransactionRequest request
+    ) {
+        return transactionService.createTransactions(merchantId, request)
+                .map(RestResponse::success)
+                .onErrorResume(error -> ControllerErrors.resume("create merchant transactions in bulk", error));
+    }
+
+    @Post("/{merchantId}/transactions/status")
+    @Operation(summary = TransactionApiDocs.STATUS_SUMMARY, description = TransactionApiDocs.STATUS_DESCRIPTION)
+    public Mono<RestResponse<StatusUpdateResponse>> updateStatuses(
+            @PathVariable String merchantId,
+            @Body @Valid StatusUpdateRequest request
+    ) {
+        return transactionService.updateStatuses(merchantId, request)
                 .map(RestResponse::success)
-                .onErrorResume(error -> {
-                    LOG.error("Failed to create merchant transactions");
-                    return Mono.just(RestResponse.error(error.getMessage()));
-                });
+                .onErrorResume(error -> ControllerErrors.resume("update merchant transaction statuses", error));
     }
 }
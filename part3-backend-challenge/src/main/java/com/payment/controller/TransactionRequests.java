@@ -0,0 +1,141 @@
+package com.payment.controller;
+
+import com.payment.codec.CborMessageBodyWriter;
+import com.payment.dto.RestResponse;
+import com.payment.dto.transaction.TransactionCursor;
+import com.payment.dto.transaction.TransactionFields;
+import com.payment.dto.transaction.TransactionListRequest;
+import com.payment.dto.transaction.TransactionRequest;
+import com.payment.dto.transaction.TransactionResponse;
+import com.payment.entity.TransactionMaster;
+import com.payment.entity.TransactionStatus;
+import com.payment.exception.InvalidParameterException;
+import com.payment.service.transaction.TransactionListing;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Request and response building shared by the transaction controllers of both execution modes.
+ * <p>
+ * Query parameters become service requests here. Every parameter is checked before the service is called, and a bad
+ * one is reported as an {@link InvalidParameterException}: 400 Bad Request with a {@code RestResponse} error envelope,
+ * whichever parameter it was.
+ */
+final class TransactionRequests {
+
+    private TransactionRequests() {
+    }
+
+    static TransactionListRequest listing(String merchantId, int page, int size, Optional<String> startDate,
+                                          Optional<String> endDate, Optional<String> status, Optional<String> cursor,
+                                          boolean withTotals, boolean details, Optional<String> fields) {
+        var request = range(merchantId, startDate, endDate, status);
+        request.setPage(page);
+        request.setSize(size);
+        request.setCursor(cursor.map(TransactionRequests::cursor).orElse(null));
+        request.setWithTotals(withTotals);
+        request.setWithDetails(details);
+        request.setFields(fields(fields));
+        return request;
+    }
+
+    /**
+     * The merchant, date range and status shared by the listing and the export.
+     */
+    static TransactionListRequest range(String merchantId, Optional<String> startDate, Optional<String> endDate,
+                                        Optional<String> status) {
+        var request = new TransactionListRequest();
+        request.setMerchantId(merchantId);
+        request.setStartDate(date(startDate, LocalDate.now().minusMonths(1)));
+        request.setEndDate(date(endDate, LocalDate.now()));
+        request.setStatus(status(status));
+        return request;
+    }
+
+    static TransactionRequest create(String merchantId, TransactionMaster transaction) {
+        var request = new TransactionRequest();
+        request.setMerchantId(merchantId);
+        request.setTransaction(transaction);
+        return request;
+    }
+
+    /**
+     * The response to a listing: 304 when {@code If-None-Match} names its tag, otherwise the page. Both carry the ETag
+     * of the encoding {@code Accept} selects and {@code Vary: Accept}, so caches keep the JSON and CBOR bodies apart.
+     */
+    static HttpResponse<RestResponse<TransactionResponse>> listingResponse(TransactionListing listing,
+                                                                          Optional<String> ifNoneMatch,
+                                                                          Optional<String> accept) {
+        String variant = acceptsCborFirst(accept) ? "cbor" : null;
+        MutableHttpResponse<RestResponse<TransactionResponse>> response = listing.matches(ifNoneMatch.orElse(null), variant)
+                ? HttpResponse.notModified()
+                : HttpResponse.ok(RestResponse.success(listing.response()));
+        return response.header(HttpHeaders.ETAG, listing.etag(variant))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * Whether content negotiation picks CBOR over JSON, the listing's default, for this {@code Accept} header.
+     */
+    private static boolean acceptsCborFirst(Optional<String> accept) {
+        if (accept.isEmpty()) {
+            return false;
+        }
+        for (MediaType type : MediaType.orderedOf(accept.get())) {
+            if (type.equals(CborMessageBodyWriter.APPLICATION_CBOR_TYPE)) {
+                return true;
+            }
+            if (type.matches(MediaType.APPLICATION_JSON_TYPE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static Long lastEventId(Optional<String> lastEventId) {
+        try {
+            return lastEventId.map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            throw new InvalidParameterException("Invalid Last-Event-ID: " + lastEventId.get(), e);
+        }
+    }
+
+    private static LocalDate date(Optional<String> value, LocalDate fallback) {
+        try {
+            return value.map(LocalDate::parse).orElse(fallback);
+        } catch (DateTimeParseException e) {
+            throw new InvalidParameterException("Invalid date format. Expected yyyy-MM-dd", e);
+        }
+    }
+
+    private static String status(Optional<String> status) {
+        try {
+            return status.map(TransactionStatus::of).orElse(TransactionStatus.COMPLETED).code();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(e.getMessage(), e);
+        }
+    }
+
+    private static String cursor(String cursor) {
+        try {
+            TransactionCursor.decode(cursor);
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid cursor", e);
+        }
+    }
+
+    private static TransactionFields fields(Optional<String> fields) {
+        try {
+            return TransactionFields.parse(fields.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.payment.controller;
+
+import com.payment.dto.transaction.Transactions;
+import com.payment.exception.InvalidParameterException;
+import com.payment.service.transaction.TransactionExportFormatter;
+import com.payment.service.transaction.TransactionFeed;
+import com.payment.service.transaction.TransactionService;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+
+/**
+ * The streaming transaction routes, export and SSE feed. They return a {@link Flux} in either
+ * {@code controllers.execution-mode}, so a single controller serves both.
+ */
+@Controller("/api/v1/merchant-transaction")
+@Tag(name = "Transactions")
+public class TransactionStreamController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionStreamController.class);
+
+    private static final MediaType NDJSON = new MediaType("application/x-ndjson");
+
+    private final TransactionService transactionService;
+    private final TransactionExportFormatter exportFormatter;
+    private final TransactionFeed transactionFeed;
+
+    @Inject
+    public TransactionStreamController(TransactionService transactionService,
+                                       TransactionExportFormatter exportFormatter,
+                                       TransactionFeed transactionFeed) {
+        this.transactionService = transactionService;
+        this.exportFormatter = exportFormatter;
+        this.transactionFeed = transactionFeed;
+    }
+
+    @Get("/{merchantId}/transactions/export")
+    @Operation(
+            summary = "Export merchant transactions",
+            description = "Streams every transaction in the date range, with its details, as NDJSON (default) or CSV."
+    )
+    public HttpResponse<Flux<String>> exportTransactions(
+            @PathVariable String merchantId,
+            @QueryValue(defaultValue = "ndjson") String format,
+            @QueryValue Optional<String> startDate,
+            @QueryValue Optional<String> endDate,
+            @QueryValue Optional<String> status
+    ) {
+        var request = TransactionRequests.range(merchantId, startDate, endDate, status);
+
+        Flux<Transactions> transactions = transactionService.streamTransactions(request)
+                .doOnError(error -> LOG.error("Export of merchant {} transactions failed", merchantId, error));
+
+        return switch (format.toLowerCase()) {
+            case "ndjson" -> HttpResponse.ok(exportFormatter.toNdjson(transactions))
+                    .contentType(NDJSON);
+            case "csv" -> HttpResponse.ok(exportFormatter.toCsv(transactions))
+                    .contentType(MediaType.TEXT_CSV_TYPE)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + merchantId + "-transactions.csv\"");
+            default -> throw new InvalidParameterException("Unsupported export format: " + format);
+        };
+    }
+
+    @Get(value = "/{merchantId}/transactions/stream", produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(
+            summary = "Watch merchant transactions",
+            description = "Server-Sent Events stream of the merchant's transactions as they are created. Reconnect with " +
+                    "Last-Event-ID to receive the events missed in between, as far back as the server still holds them."
+    )
+    public Flux<Event<?>> streamTransactions(
+            @PathVariable String merchantId,
+            @Header("Last-Event-ID") Optional<String> lastEventId
+    ) {
+        return transactionFeed.subscribe(merchantId, TransactionRequests.lastEventId(lastEventId));
+    }
+}
@@ -0,0 +1,97 @@
+package com.payment.controller;
+
+import com.payment.codec.CborMessageBodyWriter;
+import com.payment.dto.RestResponse;
+import com.payment.dto.merchant.CreateMerchantRequest;
+import com.payment.dto.merchant.CreateMerchantResponse;
+import com.payment.dto.merchant.MerchantDetailResponse;
+import com.payment.dto.merchant.MerchantListResponse;
+import com.payment.dto.merchant.UpdateMerchantRequest;
+import com.payment.dto.merchant.UpdateMerchantResponse;
+import com.payment.service.merchant.BlockingMerchantService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.Optional;
+
+/**
+ * {@link MerchantController} with blocking handlers, each request on its own virtual thread.
+ * Enabled by {@code controllers.execution-mode: virtual} (JDK 21+). Only the service call differs.
+ */
+@Controller("/api/v1/merchants")
+@Requires(property = "controllers.execution-mode", value = "virtual")
+@ExecuteOn(TaskExecutors.VIRTUAL)
+@Tag(name = "Merchants")
+public class VirtualMerchantController {
+
+    private final BlockingMerchantService merchantService;
+
+    @Inject
+    public VirtualMerchantController(BlockingMerchantService merchantService) {
+        this.merchantService = merchantService;
+    }
+
+    @Get(produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    public RestResponse<MerchantListResponse> listMerchants(
+            @QueryValue(defaultValue = "0") @Min(0) int page,
+            @QueryValue(defaultValue = "10") @Min(1) @Max(100) int size,
+            @QueryValue Optional<String> cursor,
+            @QueryValue Optional<String> status,
+            @QueryValue Optional<String> country,
+            @QueryValue Optional<Long> acquirerId,
+            @QueryValue(defaultValue = "false") boolean withTotals) {
+        var request = MerchantRequests.listing(page, size, cursor, status, country, acquirerId, withTotals);
+        try {
+            return RestResponse.success(merchantService.listMerchants(request));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("fetch merchant list", e);
+        }
+    }
+
+    @Get(value = "/{id}", produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    public RestResponse<MerchantDetailResponse> getMerchant(@PathVariable Long id) {
+        try {
+            return RestResponse.success(merchantService.getMerchant(id));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("fetch merchant " + id, e);
+        }
+    }
+
+    @Post
+    public RestResponse<CreateMerchantResponse> createMerchant(@Body @Valid CreateMerchantRequest request) {
+        try {
+            return RestResponse.success(merchantService.createMerchant(request));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("create merchant", e);
+        }
+    }
+
+    @Put("/{id}")
+    public RestResponse<UpdateMerchantResponse> updateMerchant(
+            @PathVariable Long id,
+            @Body @Valid UpdateMerchantRequest request) {
+        try {
+            return RestResponse.success(merchantService.updateMerchant(id, request));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("update merchant " + id, e);
+        }
+    }
+
+    @Delete("/{id}")
+    public RestResponse<Void> deactivateMerchant(@PathVariable Long id) {
+        try {
+            merchantService.deactivateMerchant(id);
+            return RestResponse.success();
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("deactivate merchant " + id, e);
+        }
+    }
+}
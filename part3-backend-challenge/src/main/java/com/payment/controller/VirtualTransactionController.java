@@ -0,0 +1,111 @@
+package com.payment.controller;
+
+import com.payment.codec.CborMessageBodyWriter;
+import com.payment.dto.RestResponse;
+import com.payment.dto.transaction.BatchTransactionRequest;
+import com.payment.dto.transaction.BatchTransactionResponse;
+import com.payment.dto.transaction.CreateTransactionResponse;
+import com.payment.dto.transaction.StatusUpdateRequest;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.TransactionResponse;
+import com.payment.entity.TransactionMaster;
+import com.payment.service.transaction.BlockingTransactionService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.Optional;
+
+/**
+ * {@link TransactionController} with blocking handlers, each request on its own virtual thread.
+ * Enabled by {@code controllers.execution-mode: virtual} (JDK 21+). Requests, responses and errors are built by the
+ * same {@link TransactionRequests} and {@link ControllerErrors}; only the service call differs.
+ */
+@Controller("/api/v1/merchant-transaction")
+@Requires(property = "controllers.execution-mode", value = "virtual")
+@ExecuteOn(TaskExecutors.VIRTUAL)
+@Tag(name = "Transactions")
+public class VirtualTransactionController {
+
+    private final BlockingTransactionService transactionService;
+
+    @Inject
+    public VirtualTransactionController(BlockingTransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @Get(value = "/{merchantId}/transactions", produces = {MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
+    @Operation(summary = TransactionApiDocs.LIST_SUMMARY, description = TransactionApiDocs.LIST_DESCRIPTION)
+    public HttpResponse<RestResponse<TransactionResponse>> getTransactions(
+            @PathVariable String merchantId,
+            @QueryValue(defaultValue = "0") @Min(0) int page,
+            @QueryValue(defaultValue = "20") @Min(1) @Max(100) int size,
+            @QueryValue Optional<String> startDate,
+            @QueryValue Optional<String> endDate,
+            @QueryValue Optional<String> status,
+            @QueryValue Optional<String> cursor,
+            @QueryValue(defaultValue = "true") boolean withTotals,
+            @QueryValue(defaultValue = "true") boolean details,
+            @QueryValue Optional<String> fields,
+            @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch,
+            @Header(HttpHeaders.ACCEPT) Optional<String> accept
+    ) {
+        var request = TransactionRequests.listing(merchantId, page, size, startDate, endDate, status, cursor,
+                withTotals, details, fields);
+        try {
+            return TransactionRequests.listingResponse(transactionService.getTransactionListing(request), ifNoneMatch,
+                    accept);
+        } catch (RuntimeException e) {
+            return HttpResponse.ok(ControllerErrors.failed("get merchant transactions", e));
+        }
+    }
+
+    @Post("/{merchantId}/transactions")
+    @Operation(summary = TransactionApiDocs.CREATE_SUMMARY, description = TransactionApiDocs.CREATE_DESCRIPTION)
+    public RestResponse<CreateTransactionResponse> createTransaction(
+            @PathVariable String merchantId,
+            @Body TransactionMaster transaction
+    ) {
+        try {
+            return RestResponse.success(transactionService.createTransaction(TransactionRequests.create(merchantId, transaction)));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("create merchant transaction", e);
+        }
+    }
+
+    @Post("/{merchantId}/transactions/batch")
+    @Operation(summary = TransactionApiDocs.BATCH_SUMMARY, description = TransactionApiDocs.BATCH_DESCRIPTION)
+    public RestResponse<BatchTransactionResponse> createTransactions(
+            @PathVariable String merchantId,
+            @Body @Valid BatchTransactionRequest request
+    ) {
+        try {
+            return RestResponse.success(transactionService.createTransactions(merchantId, request));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("create merchant transactions in bulk", e);
+        }
+    }
+
+    @Post("/{merchantId}/transactions/status")
+    @Operation(summary = TransactionApiDocs.STATUS_SUMMARY, description = TransactionApiDocs.STATUS_DESCRIPTION)
+    public RestResponse<StatusUpdateResponse> updateStatuses(
+            @PathVariable String merchantId,
+            @Body @Valid StatusUpdateRequest request
+    ) {
+        try {
+            return RestResponse.success(transactionService.updateStatuses(merchantId, request));
+        } catch (RuntimeException e) {
+            return ControllerErrors.failed("update merchant transaction statuses", e);
+        }
+    }
+}
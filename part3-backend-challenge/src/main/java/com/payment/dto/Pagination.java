@@ -7,6 +7,12 @@ public record Pagination(
         int page,
         int pageSize,
         int totalPages,
-        Long totalElements
+        Long totalElements,
+        boolean hasNext,
+        String nextCursor
 ) {
+
+    public Pagination(int page, int pageSize, int totalPages, Long totalElements) {
+        this(page, pageSize, totalPages, totalElements, page + 1 < totalPages, null);
+    }
 }
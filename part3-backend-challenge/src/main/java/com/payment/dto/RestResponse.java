@@ -2,54 +2,60 @@ package com.payment.dto;
 
 import io.micronaut.serde.annotation.Serdeable;
 
+/**
+ * Envelope of every API response. {@code T} is the payload type, so controllers declare for example
+ * {@code RestResponse<TransactionResponse>} and serde serializes the payload with its generated serializer,
+ * resolved once per route, instead of looking up the runtime type of an {@code Object} on every response.
+ */
 @Serdeable
-public class RestResponse {
+public class RestResponse<T> {
 
-    String code;
-    String message;
-    Object data;
+    public static final String SUCCESS_CODE = "200";
+    public static final String SUCCESS_MESSAGE = "Success";
+    public static final String ERROR_CODE = "500";
+    public static final String BAD_REQUEST_CODE = "400";
 
-    public String getCode() {
-        return code;
-    }
+    private static final RestResponse<?> SUCCESS = new RestResponse<>(SUCCESS_CODE, SUCCESS_MESSAGE, null);
+
+    private final String code;
+    private final String message;
+    private final T data;
 
-    public void setCode(String code) {
+    public RestResponse(String code, String message, T data) {
         this.code = code;
+        this.message = message;
+        this.data = data;
     }
 
-    public String getMessage() {
-        return message;
+    public String getCode() {
+        return code;
     }
 
-    public void setMessage(String message) {
-        this.message = message;
+    public String getMessage() {
+        return message;
     }
 
-    public Object getData() {
+    public T getData() {
         return data;
     }
 
-    public void setData(Object data) {
-        this.data = data;
+    /**
+     * The shared envelope of a successful call without a payload.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RestResponse<T> success() {
+        return (RestResponse<T>) SUCCESS;
     }
 
-    public static RestResponse success() {
-        RestResponse restResponse = new RestResponse();
-        restResponse.setCode("200");
-        restResponse.setMessage("Success");
-        return restResponse;
+    public static <T> RestResponse<T> error(String message) {
+        return new RestResponse<>(ERROR_CODE, message, null);
     }
 
-    public static RestResponse error(String message) {
-        RestResponse restResponse = new RestResponse();
-        restResponse.setCode("500");
-        restResponse.setMessage(message);
-        return restResponse;
+    public static <T> RestResponse<T> badRequest(String message) {
+        return new RestResponse<>(BAD_REQUEST_CODE, message, null);
     }
 
-    public static RestResponse success(Object data) {
-        RestResponse restResponse = success();
-        restResponse.setData(data);
-        return restResponse;
+    public static <T> RestResponse<T> success(T data) {
+        return new RestResponse<>(SUCCESS_CODE, SUCCESS_MESSAGE, data);
     }
 }
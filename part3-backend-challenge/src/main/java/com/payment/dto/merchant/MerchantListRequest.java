@@ -0,0 +1,70 @@
+package com.payment.dto.merchant;
+
+import com.payment.dto.Request;
+
+public class MerchantListRequest implements Request {
+
+    private int page;
+    private int size;
+    private Long cursor;
+    private String status;
+    private String country;
+    private Long acquirerId;
+    private boolean withTotals;
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(Long cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public Long getAcquirerId() {
+        return acquirerId;
+    }
+
+    public void setAcquirerId(Long acquirerId) {
+        this.acquirerId = acquirerId;
+    }
+
+    public boolean isWithTotals() {
+        return withTotals;
+    }
+
+    public void setWithTotals(boolean withTotals) {
+        this.withTotals = withTotals;
+    }
+}
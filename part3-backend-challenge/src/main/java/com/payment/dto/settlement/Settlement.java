@@ -0,0 +1,22 @@
+package com.payment.dto.settlement;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Serdeable
+public record Settlement(
+        LocalDate settlementDate,
+        Long memberId,
+        String memberName,
+        String merchantId,
+        String currency,
+        long txnCount,
+        BigDecimal completedAmount,
+        BigDecimal avgAmount,
+        BigDecimal feeAmount,
+        BigDecimal refundAmount,
+        BigDecimal netAmount
+) {
+}
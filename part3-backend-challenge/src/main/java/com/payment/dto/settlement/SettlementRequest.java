@@ -0,0 +1,45 @@
+package com.payment.dto.settlement;
+
+import com.payment.dto.Request;
+
+import java.time.LocalDate;
+
+public class SettlementRequest implements Request {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long memberId;
+    private String merchantId;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public String getMerchantId() {
+        return merchantId;
+    }
+
+    public void setMerchantId(String merchantId) {
+        this.merchantId = merchantId;
+    }
+}
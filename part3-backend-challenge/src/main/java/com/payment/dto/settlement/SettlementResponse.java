@@ -0,0 +1,20 @@
+package com.payment.dto.settlement;
+
+import com.payment.dto.Response;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The stored settlements of a date range. {@code pendingDays} are the days not settled yet or changed since; their
+ * settlements are missing or stale until the next settlement run.
+ */
+@Serdeable
+public record SettlementResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        List<Settlement> settlements,
+        List<LocalDate> pendingDays
+) implements Response {
+}
@@ -0,0 +1,19 @@
+package com.payment.dto.settlement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One stored row of {@code operators.daily_settlements}.
+ */
+public record SettlementRow(
+        LocalDate settlementDate,
+        Long memberId,
+        String merchantId,
+        String currency,
+        long txnCount,
+        BigDecimal completedAmount,
+        BigDecimal feeAmount,
+        BigDecimal refundAmount
+) {
+}
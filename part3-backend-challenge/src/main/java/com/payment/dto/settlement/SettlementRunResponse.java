@@ -0,0 +1,14 @@
+package com.payment.dto.settlement;
+
+import com.payment.dto.Response;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDate;
+
+@Serdeable
+public record SettlementRunResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        int settledDays
+) implements Response {
+}
@@ -0,0 +1,17 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record BatchItemResult(
+        int index,
+        Long transactionId,
+        int detailCount,
+        String status,
+        String error
+) {
+
+    public static final String CREATED = "created";
+    public static final String REJECTED = "rejected";
+    public static final String FAILED = "failed";
+}
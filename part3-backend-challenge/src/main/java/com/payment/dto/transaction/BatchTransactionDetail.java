@@ -0,0 +1,16 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Serdeable
+public record BatchTransactionDetail(
+        String detailType,
+        BigDecimal amount,
+        String currency,
+        String description,
+        Instant localTxnDateTime
+) {
+}
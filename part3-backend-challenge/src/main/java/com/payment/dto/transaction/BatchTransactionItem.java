@@ -0,0 +1,25 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Serdeable
+public record BatchTransactionItem(
+        Long gpAcquirerId,
+        Long gpIssuerId,
+        LocalDate txnDate,
+        Instant localTxnDateTime,
+        BigDecimal amount,
+        String currency,
+        String status,
+        String cardType,
+        String cardLast4,
+        String authCode,
+        String responseCode,
+        List<BatchTransactionDetail> details
+) {
+}
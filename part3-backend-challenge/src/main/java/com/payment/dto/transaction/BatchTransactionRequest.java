@@ -0,0 +1,14 @@
+package com.payment.dto.transaction;
+
+import com.payment.dto.Request;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Serdeable
+public record BatchTransactionRequest(
+        @NotEmpty @Size(max = 50000) List<BatchTransactionItem> transactions
+) implements Request {
+}
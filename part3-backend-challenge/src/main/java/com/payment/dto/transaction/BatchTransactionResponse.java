@@ -0,0 +1,16 @@
+package com.payment.dto.transaction;
+
+import com.payment.dto.Response;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+@Serdeable
+public record BatchTransactionResponse(
+        String merchantId,
+        int created,
+        int rejected,
+        int failed,
+        List<BatchItemResult> results
+) implements Response {
+}
@@ -0,0 +1,14 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+
+@Serdeable
+public record MerchantStatusTotal(
+        String merchantId,
+        String status,
+        Long txnCount,
+        BigDecimal totalAmount
+) {
+}
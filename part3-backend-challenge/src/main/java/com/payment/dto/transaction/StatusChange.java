@@ -0,0 +1,16 @@
+package com.payment.dto.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A status transition as written by {@code TransactionStatusRepository}, with what is needed to adjust
+ * running totals.
+ */
+public record StatusChange(
+        long txnId,
+        LocalDate txnDate,
+        BigDecimal amount,
+        String status
+) {
+}
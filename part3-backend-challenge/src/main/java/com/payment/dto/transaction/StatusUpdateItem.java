@@ -0,0 +1,10 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record StatusUpdateItem(
+        Long txnId,
+        String status
+) {
+}
@@ -0,0 +1,20 @@
+package com.payment.dto.transaction;
+
+import com.payment.dto.Response;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Serdeable
+public record StatusUpdateResponse(
+        String merchantId,
+        int updated,
+        int conflicted,
+        int rejected,
+        int failed,
+        Map<String, BigDecimal> amountByStatus,
+        List<StatusUpdateResult> results
+) implements Response {
+}
@@ -0,0 +1,19 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record StatusUpdateResult(
+        int index,
+        Long transactionId,
+        String status,
+        String outcome,
+        String error
+) {
+
+    public static final String UPDATED = "updated";
+    /** The transaction does not exist for the merchant or is not in the status the transition starts from. */
+    public static final String CONFLICT = "conflict";
+    public static final String REJECTED = "rejected";
+    public static final String FAILED = "failed";
+}
@@ -0,0 +1,33 @@
+package com.payment.dto.transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a merchant transaction listing: the {@code (created_at, txn_id)} of the last row returned.
+ * Clients only ever see the opaque, URL-safe token produced by {@link #encode()}.
+ */
+public record TransactionCursor(Instant createdAt, long txnId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + txnId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TransactionCursor(Instant.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
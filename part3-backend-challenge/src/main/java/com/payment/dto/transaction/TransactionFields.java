@@ -0,0 +1,63 @@
+package com.payment.dto.transaction;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of a listing, parsed from {@code fields=amount,status,...} with the {@link Transactions} property
+ * names. {@code txnId} is always included; fields left out are omitted from the response, and leaving out
+ * {@code details} skips the detail query.
+ */
+public record TransactionFields(Set<Field> included) {
+
+    public static final TransactionFields ALL = new TransactionFields(EnumSet.allOf(Field.class));
+
+    public enum Field {
+        TXN_ID("txnId"),
+        AMOUNT("amount"),
+        CURRENCY("currency"),
+        STATUS("status"),
+        TIMESTAMP("timestamp"),
+        CARD_TYPE("cardType"),
+        CARD_LAST4("cardLast4"),
+        ACQUIRER("acquirer"),
+        ISSUER("issuer"),
+        DETAILS("details");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException for a name that is not a {@link Transactions} property
+     */
+    public static TransactionFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Field> included = EnumSet.of(Field.TXN_ID);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            included.add(Arrays.stream(Field.values())
+                    .filter(field -> field.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + property)));
+        }
+        return new TransactionFields(included);
+    }
+
+    public boolean includes(Field field) {
+        return included.contains(field);
+    }
+}
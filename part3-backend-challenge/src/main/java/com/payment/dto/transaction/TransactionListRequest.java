@@ -0,0 +1,99 @@
+package com.payment.dto.transaction;
+
+import com.payment.dto.Request;
+
+import java.time.LocalDate;
+
+public class TransactionListRequest implements Request {
+
+    private String merchantId;
+    private int page;
+    private int size;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+    private String cursor;
+    private boolean withTotals = true;
+    private boolean withDetails = true;
+    private TransactionFields fields = TransactionFields.ALL;
+
+    public String getMerchantId() {
+        return merchantId;
+    }
+
+    public void setMerchantId(String merchantId) {
+        this.merchantId = merchantId;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isWithTotals() {
+        return withTotals;
+    }
+
+    public void setWithTotals(boolean withTotals) {
+        this.withTotals = withTotals;
+    }
+
+    public boolean isWithDetails() {
+        return withDetails;
+    }
+
+    public void setWithDetails(boolean withDetails) {
+        this.withDetails = withDetails;
+    }
+
+    public TransactionFields getFields() {
+        return fields;
+    }
+
+    public void setFields(TransactionFields fields) {
+        this.fields = fields;
+    }
+}
@@ -0,0 +1,33 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Row of the combined listing query. {@code T} rows carry a transaction of the requested page,
+ * {@code S} rows carry the count and amount total of one status over the whole range.
+ */
+@Serdeable
+public record TransactionPageRow(
+        String rowType,
+        Long txnId,
+        String merchantId,
+        Long gpAcquirerId,
+        Long gpIssuerId,
+        BigDecimal amount,
+        String currency,
+        String status,
+        String cardType,
+        String cardLast4,
+        Instant createdAt,
+        LocalDate txnDate,
+        Long txnCount,
+        BigDecimal totalAmount
+) {
+
+    public static final String TRANSACTION = "T";
+    public static final String SUMMARY = "S";
+}
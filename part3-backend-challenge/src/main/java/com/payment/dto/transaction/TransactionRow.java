@@ -0,0 +1,26 @@
+package com.payment.dto.transaction;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Columns of {@code transaction_master} that a listing returns, plus {@code txn_date} to bound the detail query.
+ * The listing queries project into it instead of hydrating the whole entity.
+ */
+@Serdeable
+public record TransactionRow(
+        Long txnId,
+        Long gpAcquirerId,
+        Long gpIssuerId,
+        BigDecimal amount,
+        String currency,
+        String status,
+        String cardType,
+        String cardLast4,
+        Instant createdAt,
+        LocalDate txnDate
+) {
+}
@@ -0,0 +1,54 @@
+package com.payment.entity;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Values of {@code transaction_master.status}. The column stores {@link #code()}, which is what the schema CHECK
+ * accepts; queries compare it exactly so the status indexes apply.
+ */
+public enum TransactionStatus {
+    PENDING,
+    COMPLETED,
+    FAILED,
+    REVERSED;
+
+    private final String code = name().toLowerCase(Locale.ROOT);
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * The status a transaction must be in to move to this one: {@code pending} for {@code completed} and
+     * {@code failed}, {@code completed} for {@code reversed}. Empty for {@code pending}, which is only set on create.
+     */
+    public Optional<TransactionStatus> requiredFrom() {
+        return switch (this) {
+            case COMPLETED, FAILED -> Optional.of(PENDING);
+            case REVERSED -> Optional.of(COMPLETED);
+            case PENDING -> Optional.empty();
+        };
+    }
+
+    /**
+     * Parses a status as sent by clients, ignoring case and surrounding whitespace.
+     *
+     * @throws IllegalArgumentException if {@code value} is not a known status
+     */
+    public static TransactionStatus of(String value) {
+        return find(value).orElseThrow(() -> new IllegalArgumentException("Unknown status: " + value));
+    }
+
+    public static Optional<TransactionStatus> find(String value) {
+        if (value != null) {
+            String code = value.trim().toLowerCase(Locale.ROOT);
+            for (TransactionStatus status : values()) {
+                if (status.code.equals(code)) {
+                    return Optional.of(status);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.payment.exception;
+
+import com.payment.dto.RestResponse;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
+import io.micronaut.validation.exceptions.ConstraintExceptionHandler;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+
+import java.util.stream.Collectors;
+
+/**
+ * Reports bean validation failures ({@code @Min}, {@code @Max}, {@code @Valid} bodies) in the same shape as
+ * {@link InvalidParameterHandler}: 400 Bad Request with a {@link RestResponse} error envelope, e.g.
+ * {@code "size: must be less than or equal to 100"}.
+ */
+@Produces
+@Singleton
+@Replaces(ConstraintExceptionHandler.class)
+public class ConstraintViolationHandler implements ExceptionHandler<ConstraintViolationException, HttpResponse<RestResponse<Void>>> {
+
+    @Override
+    public HttpResponse<RestResponse<Void>> handle(HttpRequest request, ConstraintViolationException exception) {
+        String message = exception.getConstraintViolations().stream()
+                .map(violation -> parameterName(violation) + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return HttpResponse.badRequest(RestResponse.badRequest(message));
+    }
+
+    /**
+     * The path without the leading method name, e.g. {@code size} for {@code getTransactions.size}.
+     */
+    private static String parameterName(ConstraintViolation<?> violation) {
+        StringBuilder name = new StringBuilder();
+        boolean first = true;
+        for (Path.Node node : violation.getPropertyPath()) {
+            if (first) {
+                first = false;
+                if (node.getKind() == ElementKind.METHOD) {
+                    continue;
+                }
+            }
+            if (!name.isEmpty()) {
+                name.append('.');
+            }
+            name.append(node.getName());
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.payment.exception;
+
+/**
+ * A request parameter that is missing, malformed or out of range. Answered with 400 Bad Request and a
+ * {@code RestResponse} envelope by {@link InvalidParameterHandler}.
+ */
+public class InvalidParameterException extends IllegalArgumentException {
+
+    public InvalidParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
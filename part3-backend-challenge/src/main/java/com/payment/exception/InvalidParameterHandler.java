@@ -0,0 +1,22 @@
+package com.payment.exception;
+
+import com.payment.dto.RestResponse;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
+import jakarta.inject.Singleton;
+
+/**
+ * Answers an {@link InvalidParameterException} with 400 Bad Request and the message in the {@link RestResponse}
+ * envelope that failed calls return, with code {@code 400}.
+ */
+@Produces
+@Singleton
+public class InvalidParameterHandler implements ExceptionHandler<InvalidParameterException, HttpResponse<RestResponse<Void>>> {
+
+    @Override
+    public HttpResponse<RestResponse<Void>> handle(HttpRequest request, InvalidParameterException exception) {
+        return HttpResponse.badRequest(RestResponse.badRequest(exception.getMessage()));
+    }
+}
@@ -1,19 +1,126 @@
 package com.payment.repository;
 
 import com.payment.entity.Merchant;
-import io.micronaut.data.annotation.Repository;
-import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
-import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.reactive.ReactorCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-@Repository
-@JdbcRepository(dialect = Dialect.POSTGRES)
+/**
+ * Repository for Merchant entities, implemented per driver like {@link TransactionRepository}.
+ */
 public interface MerchantRepository extends ReactorCrudRepository<Merchant, Long> {
 
     Mono<Merchant> findByMerchantId(Long merchantId);
 
     Mono<Page<Merchant>> findAll(Pageable pageable);
+
+    /*
+     * One statement per combination of filters: a catch-all "(:status IS NULL OR m.status = :status)" keeps the
+     * planner off the status, country and acquirer indexes whenever the plan is generic. The fragments are
+     * constants, so each @Query is still a compile-time string.
+     */
+    String SLICE = """
+            SELECT *
+            FROM operators.merchants m
+            WHERE m.merchant_id > :afterMerchantId
+            """;
+    String SLICE_END = """
+
+            ORDER BY m.merchant_id
+            LIMIT :limit OFFSET :offset
+            """;
+    String COUNT = """
+            SELECT COUNT(*)
+            FROM operators.merchants m
+            WHERE TRUE
+            """;
+    String BY_STATUS = " AND m.status = :status";
+    String BY_COUNTRY = " AND m.country = :country";
+    String BY_ACQUIRER = " AND m.acquirer_id = :acquirerId";
+
+    /**
+     * Merchants after {@code afterMerchantId} in id order, filtered by the arguments that are not null. Callers ask
+     * for one row more than they show to learn whether another slice exists, so no count is needed.
+     */
+    default Flux<Merchant> findSlice(long afterMerchantId, String status, String country, Long acquirerId,
+                                     int limit, long offset) {
+        return switch (filters(status, country, acquirerId)) {
+            case 0 -> findSliceUnfiltered(afterMerchantId, limit, offset);
+            case 1 -> findSliceByStatus(afterMerchantId, status, limit, offset);
+            case 2 -> findSliceByCountry(afterMerchantId, country, limit, offset);
+            case 3 -> findSliceByStatusAndCountry(afterMerchantId, status, country, limit, offset);
+            case 4 -> findSliceByAcquirer(afterMerchantId, acquirerId, limit, offset);
+            case 5 -> findSliceByStatusAndAcquirer(afterMerchantId, status, acquirerId, limit, offset);
+            case 6 -> findSliceByCountryAndAcquirer(afterMerchantId, country, acquirerId, limit, offset);
+            default -> findSliceByAll(afterMerchantId, status, country, acquirerId, limit, offset);
+        };
+    }
+
+    /**
+     * Number of merchants matching the arguments that are not null.
+     */
+    default Mono<Long> countFiltered(String status, String country, Long acquirerId) {
+        return switch (filters(status, country, acquirerId)) {
+            case 0 -> count();
+            case 1 -> countByStatus(status);
+            case 2 -> countByCountry(country);
+            case 3 -> countByStatusAndCountry(status, country);
+            case 4 -> countByAcquirer(acquirerId);
+            case 5 -> countByStatusAndAcquirer(status, acquirerId);
+            case 6 -> countByCountryAndAcquirer(country, acquirerId);
+            default -> countByAll(status, country, acquirerId);
+        };
+    }
+
+    private static int filters(String status, String country, Long acquirerId) {
+        return (status != null ? 1 : 0) | (country != null ? 2 : 0) | (acquirerId != null ? 4 : 0);
+    }
+
+    @Query(SLICE + SLICE_END)
+    Flux<Merchant> findSliceUnfiltered(long afterMerchantId, int limit, long offset);
+
+    @Query(SLICE + BY_STATUS + SLICE_END)
+    Flux<Merchant> findSliceByStatus(long afterMerchantId, String status, int limit, long offset);
+
+    @Query(SLICE + BY_COUNTRY + SLICE_END)
+    Flux<Merchant> findSliceByCountry(long afterMerchantId, String country, int limit, long offset);
+
+    @Query(SLICE + BY_STATUS + BY_COUNTRY + SLICE_END)
+    Flux<Merchant> findSliceByStatusAndCountry(long afterMerchantId, String status, String country, int limit, long offset);
+
+    @Query(SLICE + BY_ACQUIRER + SLICE_END)
+    Flux<Merchant> findSliceByAcquirer(long afterMerchantId, Long acquirerId, int limit, long offset);
+
+    @Query(SLICE + BY_STATUS + BY_ACQUIRER + SLICE_END)
+    Flux<Merchant> findSliceByStatusAndAcquirer(long afterMerchantId, String status, Long acquirerId, int limit, long offset);
+
+    @Query(SLICE + BY_COUNTRY + BY_ACQUIRER + SLICE_END)
+    Flux<Merchant> findSliceByCountryAndAcquirer(long afterMerchantId, String country, Long acquirerId, int limit, long offset);
+
+    @Query(SLICE + BY_STATUS + BY_COUNTRY + BY_ACQUIRER + SLICE_END)
+    Flux<Merchant> findSliceByAll(long afterMerchantId, String status, String country, Long acquirerId, int limit, long offset);
+
+    @Query(COUNT + BY_STATUS)
+    Mono<Long> countByStatus(String status);
+
+    @Query(COUNT + BY_COUNTRY)
+    Mono<Long> countByCountry(String country);
+
+    @Query(COUNT + BY_STATUS + BY_COUNTRY)
+    Mono<Long> countByStatusAndCountry(String status, String country);
+
+    @Query(COUNT + BY_ACQUIRER)
+    Mono<Long> countByAcquirer(Long acquirerId);
+
+    @Query(COUNT + BY_STATUS + BY_ACQUIRER)
+    Mono<Long> countByStatusAndAcquirer(String status, Long acquirerId);
+
+    @Query(COUNT + BY_COUNTRY + BY_ACQUIRER)
+    Mono<Long> countByCountryAndAcquirer(String country, Long acquirerId);
+
+    @Query(COUNT + BY_STATUS + BY_COUNTRY + BY_ACQUIRER)
+    Mono<Long> countByAll(String status, String country, Long acquirerId);
 }
@@ -0,0 +1,50 @@
+package com.payment.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Times repository queries from subscription to completion ({@code db.query}, tagged with the query and outcome)
+ * and counts the rows they return ({@code db.query.rows}). Time spent waiting for a pooled connection is part of
+ * the query time here and is reported separately by Hikari as {@code hikaricp.connections.acquire}.
+ */
+@Singleton
+public class QueryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Inject
+    public QueryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Flux<T> timed(String query, Flux<T> results) {
+        Counter rows = Counter.builder("db.query.rows")
+                .description("Rows returned by repository queries")
+                .tag("query", query)
+                .register(meterRegistry);
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return results
+                    .doOnNext(row -> rows.increment())
+                    .doFinally(signal -> sample.stop(Timer.builder("db.query")
+                            .description("Repository query time, including connection acquisition")
+                            .tag("query", query)
+                            .tag("outcome", outcome(signal))
+                            .register(meterRegistry)));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.payment.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+
+/**
+ * Picks the repository a read runs on. Listings, summaries, exports and merchant lookups go to the read-only
+ * {@code replica} datasource; writes keep using the primary repositories, which are injected unqualified as before.
+ * <p>
+ * A replica lags the primary, so right after a write a merchant could miss its own rows, and the listing cache would
+ * keep that stale page for its TTL. For {@code repository.read-replica.read-your-writes} after {@link #recordWrite}
+ * the merchant's reads stay on the primary. The window is tracked per instance; zero turns it off.
+ */
+@Singleton
+public class ReadReplicaRouter {
+
+    public static final String REPLICA = "replica";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionRepository replicaTransactionRepository;
+    private final TransactionDetailRepository transactionDetailRepository;
+    private final TransactionDetailRepository replicaTransactionDetailRepository;
+    private final MerchantRepository merchantRepository;
+    private final MerchantRepository replicaMerchantRepository;
+    /** Keys are transaction merchant ids (String) and merchant primary keys (Long). */
+    private final Cache<Object, Boolean> recentWrites;
+
+    @Inject
+    public ReadReplicaRouter(TransactionRepository transactionRepository,
+                             @Named(REPLICA) TransactionRepository replicaTransactionRepository,
+                             TransactionDetailRepository transactionDetailRepository,
+                             @Named(REPLICA) TransactionDetailRepository replicaTransactionDetailRepository,
+                             MerchantRepository merchantRepository,
+                             @Named(REPLICA) MerchantRepository replicaMerchantRepository,
+                             @Value("${repository.read-replica.read-your-writes:2s}") Duration readYourWrites) {
+        this.transactionRepository = transactionRepository;
+        this.replicaTransactionRepository = replicaTransactionRepository;
+        this.transactionDetailRepository = transactionDetailRepository;
+        this.replicaTransactionDetailRepository = replicaTransactionDetailRepository;
+        this.merchantRepository = merchantRepository;
+        this.replicaMerchantRepository = replicaMerchantRepository;
+        this.recentWrites = readYourWrites.isZero() || readYourWrites.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(100_000)
+                        .expireAfterWrite(readYourWrites)
+                        .build();
+    }
+
+    public TransactionRepository transactions(String merchantId) {
+        return wroteRecently(merchantId) ? transactionRepository : replicaTransactionRepository;
+    }
+
+    public TransactionDetailRepository transactionDetails(String merchantId) {
+        return wroteRecently(merchantId) ? transactionDetailRepository : replicaTransactionDetailRepository;
+    }
+
+    /**
+     * For reads of one merchant row.
+     */
+    public MerchantRepository merchants(Long merchantId) {
+        return wroteRecently(merchantId) ? merchantRepository : replicaMerchantRepository;
+    }
+
+    /**
+     * For merchant lists, counts and lookups by code, which always read the replica.
+     */
+    public MerchantRepository merchants() {
+        return replicaMerchantRepository;
+    }
+
+    /**
+     * Records a committed write of the merchant's transactions.
+     */
+    public void recordWrite(String merchantId) {
+        record(merchantId);
+    }
+
+    /**
+     * Records a committed write of the merchant row.
+     */
+    public void recordMerchantWrite(Long merchantId) {
+        record(merchantId);
+    }
+
+    private void record(Object key) {
+        if (recentWrites != null && key != null) {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    private boolean wroteRecently(Object key) {
+        return recentWrites != null && key != null && recentWrites.getIfPresent(key) != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.payment.repository;
+
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads schema metadata from the Postgres catalog.
+ */
+@Singleton
+public class SchemaCatalogRepository {
+
+    private static final String SCHEMA = "operators";
+
+    private static final String LIST_INDEXES = """
+            SELECT indexname
+            FROM pg_indexes
+            WHERE schemaname = ? AND tablename = ?
+            """;
+
+    private final TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    public SchemaCatalogRepository(TransactionOperations<Connection> transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Names of the indexes defined on {@code table}. For a partitioned table these are the parent indexes.
+     */
+    public Set<String> listIndexes(String table) {
+        return transactionOperations.executeRead(status -> {
+            Set<String> names = new HashSet<>();
+            try (PreparedStatement ps = status.getConnection().prepareStatement(LIST_INDEXES)) {
+                ps.setString(1, SCHEMA);
+                ps.setString(2, table);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        names.add(rs.getString(1));
+                    }
+                }
+            }
+            return names;
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package com.payment.repository;
+
+import com.payment.dto.settlement.SettlementRow;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes {@code operators.daily_settlements} (see {@code db/SettlementSchema.sql}). Blocking.
+ */
+@Singleton
+public class SettlementRepository {
+
+    /*
+     * Claims the day for (re)computation: records it in settlement_runs, or clears the dirty flag of a day that
+     * changed since it was settled. Returns no row when the day is settled and clean. The row lock taken here makes
+     * a concurrent run for the same day wait and then find it clean, and a concurrent markDirty wait and then mark
+     * it again, so a change committed during the recomputation is picked up by the next run.
+     */
+    private static final String CLAIM_DAY = """
+            INSERT INTO operators.settlement_runs (settlement_date)
+            VALUES (?)
+            ON CONFLICT (settlement_date) DO UPDATE
+                SET computed_at = NOW(), dirty = false
+                WHERE settlement_runs.dirty
+            RETURNING settlement_date
+            """;
+
+    private static final String DELETE_DAY = """
+            DELETE FROM operators.daily_settlements
+            WHERE settlement_date = ?
+            """;
+
+    /*
+     * Both tables are read for a single txn_date, i.e. a single partition each.
+     */
+    private static final String SETTLE_DAY = """
+            WITH adjustments AS (
+                SELECT td.master_txn_id,
+                       SUM(td.amount) FILTER (WHERE td.detail_type = 'fee') AS fee_amount,
+                       SUM(td.amount) FILTER (WHERE td.detail_type = 'refund') AS refund_amount
+                FROM operators.transaction_details td
+                WHERE td.txn_date = ?
+                  AND td.detail_type IN ('fee', 'refund')
+                GROUP BY td.master_txn_id
+            )
+            INSERT INTO operators.daily_settlements
+                (settlement_date, member_id, merchant_id, currency, txn_count, completed_amount, fee_amount, refund_amount)
+            SELECT tm.txn_date, tm.gp_acquirer_id, tm.merchant_id, tm.currency, COUNT(*), SUM(tm.amount),
+                   COALESCE(SUM(a.fee_amount), 0), COALESCE(SUM(a.refund_amount), 0)
+            FROM operators.transaction_master tm
+            LEFT JOIN adjustments a ON a.master_txn_id = tm.txn_id
+            WHERE tm.txn_date = ?
+              AND tm.status = 'completed'
+              AND tm.gp_acquirer_id IS NOT NULL
+            GROUP BY tm.txn_date, tm.gp_acquirer_id, tm.merchant_id, tm.currency
+            """;
+
+    private static final String MARK_DIRTY = """
+            UPDATE operators.settlement_runs
+            SET dirty = true
+            WHERE settlement_date = ANY(CAST(? AS date[]))
+              AND NOT dirty
+            """;
+
+    private static final String LIST_SETTLED_DAYS = """
+            SELECT settlement_date
+            FROM operators.settlement_runs
+            WHERE settlement_date >= ? AND settlement_date <= ?
+              AND NOT dirty
+            """;
+
+    /*
+     * One statement per combination of filters, as in MerchantRepository: a catch-all "(? IS NULL OR member_id = ?)"
+     * keeps a generic plan off idx_daily_settlements_merchant and the primary key.
+     */
+    private static final String FIND_SETTLEMENTS = """
+            SELECT settlement_date, member_id, merchant_id, currency, txn_count, completed_amount, fee_amount, refund_amount
+            FROM operators.daily_settlements
+            WHERE settlement_date >= ? AND settlement_date <= ?
+            """;
+    private static final String FIND_SETTLEMENTS_END = """
+
+            ORDER BY settlement_date, member_id, merchant_id, currency
+            """;
+    private static final String BY_MEMBER = " AND member_id = ?";
+    private static final String BY_MERCHANT = " AND merchant_id = ?";
+
+    private final TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    public SettlementRepository(TransactionOperations<Connection> transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Computes and stores the settlement of {@code day}, replacing its rows, unless it is already settled and has not
+     * been marked dirty since.
+     *
+     * @return the number of settlement rows written, 0 when the day was settled and clean or had no completed
+     * transactions
+     */
+    public int settleDay(LocalDate day) {
+        return transactionOperations.executeWrite(status -> {
+            Connection connection = status.getConnection();
+            Date date = Date.valueOf(day);
+            try (PreparedStatement claim = connection.prepareStatement(CLAIM_DAY)) {
+                claim.setDate(1, date);
+                try (ResultSet rs = claim.executeQuery()) {
+                    if (!rs.next()) {
+                        return 0;
+                    }
+                }
+            }
+            try (PreparedStatement delete = connection.prepareStatement(DELETE_DAY)) {
+                delete.setDate(1, date);
+                delete.executeUpdate();
+            }
+            try (PreparedStatement ps = connection.prepareStatement(SETTLE_DAY)) {
+                ps.setDate(1, date);
+                ps.setDate(2, date);
+                return ps.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Flags settled days whose transactions changed, so the next {@link #settleDay} recomputes them. Days that are
+     * not settled yet are left alone.
+     */
+    public void markDirty(Collection<LocalDate> days) {
+        transactionOperations.executeWrite(status -> {
+            Connection connection = status.getConnection();
+            try (PreparedStatement ps = connection.prepareStatement(MARK_DIRTY)) {
+                ps.setArray(1, connection.createArrayOf("date", days.stream().map(Date::valueOf).toArray()));
+                ps.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Days in {@code [from, to]} that are settled and clean.
+     */
+    public List<LocalDate> listSettledDays(LocalDate from, LocalDate to) {
+        return transactionOperations.executeRead(status -> {
+            List<LocalDate> days = new ArrayList<>();
+            try (PreparedStatement ps = status.getConnection().prepareStatement(LIST_SETTLED_DAYS)) {
+                ps.setDate(1, Date.valueOf(from));
+                ps.setDate(2, Date.valueOf(to));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        days.add(rs.getDate(1).toLocalDate());
+                    }
+                }
+            }
+            return days;
+        });
+    }
+
+    public List<SettlementRow> findSettlements(LocalDate from, LocalDate to, Long memberId, String merchantId) {
+        return transactionOperations.executeRead(status -> {
+            List<SettlementRow> rows = new ArrayList<>();
+            String sql = FIND_SETTLEMENTS
+                    + (memberId != null ? BY_MEMBER : "")
+                    + (merchantId != null ? BY_MERCHANT : "")
+                    + FIND_SETTLEMENTS_END;
+            try (PreparedStatement ps = status.getConnection().prepareStatement(sql)) {
+                int index = 1;
+                ps.setDate(index++, Date.valueOf(from));
+                ps.setDate(index++, Date.valueOf(to));
+                if (memberId != null) {
+                    ps.setLong(index++, memberId);
+                }
+                if (merchantId != null) {
+                    ps.setString(index, merchantId);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(new SettlementRow(
+                                rs.getDate("settlement_date").toLocalDate(),
+                                rs.getLong("member_id"),
+                                rs.getString("merchant_id"),
+                                rs.getString("currency"),
+                                rs.getLong("txn_count"),
+                                rs.getBigDecimal("completed_amount"),
+                                rs.getBigDecimal("fee_amount"),
+                                rs.getBigDecimal("refund_amount")));
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+}
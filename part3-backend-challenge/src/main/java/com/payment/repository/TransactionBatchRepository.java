@@ -0,0 +1,148 @@
+package com.payment.repository;
+
+import com.payment.entity.TransactionDetail;
+import com.payment.entity.TransactionMaster;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Bulk writer for transaction masters and their details using JDBC batches.
+ * <p>
+ * Master ids are reserved from the sequence up front in one round trip, so details can be linked to their
+ * master without depending on the order of generated keys. With {@code reWriteBatchedInserts=true} on the
+ * JDBC URL the driver folds each batch into multi-row {@code INSERT} statements.
+ */
+@Singleton
+public class TransactionBatchRepository {
+
+    private static final String RESERVE_IDS = """
+            SELECT nextval('operators.transaction_master_txn_id_seq')
+            FROM generate_series(1, ?)
+            """;
+
+    private static final String INSERT_MASTER = """
+            INSERT INTO operators.transaction_master
+                (txn_id, merchant_id, gp_acquirer_id, gp_issuer_id, txn_date, local_txn_date_time, amount, currency,
+                 status, card_type, card_last4, auth_code, response_code, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DETAIL = """
+            INSERT INTO operators.transaction_details
+                (master_txn_id, txn_date, detail_type, amount, currency, description, local_txn_date_time, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    public TransactionBatchRepository(TransactionOperations<Connection> transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Inserts the masters and their details in a single database transaction. Blocking.
+     *
+     * @param masters masters to insert; their {@code txnId} is set to the reserved id
+     * @param details details per master, index-aligned with {@code masters}; may contain {@code null}
+     */
+    public void insert(List<TransactionMaster> masters, List<List<TransactionDetail>> details) {
+        transactionOperations.executeWrite(status -> {
+            Connection connection = status.getConnection();
+            long[] ids = reserveIds(connection, masters.size());
+            for (int i = 0; i < masters.size(); i++) {
+                masters.get(i).setTxnId(ids[i]);
+            }
+            insertMasters(connection, masters);
+            if (details != null) {
+                insertDetails(connection, masters, details);
+            }
+            return null;
+        });
+    }
+
+    private long[] reserveIds(Connection connection, int count) throws SQLException {
+        long[] ids = new long[count];
+        try (PreparedStatement ps = connection.prepareStatement(RESERVE_IDS)) {
+            ps.setInt(1, count);
+            try (ResultSet rs = ps.executeQuery()) {
+                int i = 0;
+                while (rs.next()) {
+                    ids[i++] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void insertMasters(Connection connection, List<TransactionMaster> masters) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_MASTER)) {
+            for (TransactionMaster tm : masters) {
+                ps.setLong(1, tm.getTxnId());
+                ps.setString(2, tm.getMerchantId());
+                setLong(ps, 3, tm.getGpAcquirerId());
+                setLong(ps, 4, tm.getGpIssuerId());
+                ps.setDate(5, tm.getTxnDate());
+                ps.setTimestamp(6, Timestamp.from(tm.getLocalTxnDateTime()));
+                ps.setBigDecimal(7, tm.getAmount());
+                ps.setString(8, tm.getCurrency());
+                ps.setString(9, tm.getStatus());
+                ps.setString(10, tm.getCardType());
+                ps.setString(11, tm.getCardLast4());
+                ps.setString(12, tm.getAuthCode());
+                ps.setString(13, tm.getResponseCode());
+                ps.setTimestamp(14, Timestamp.from(tm.getCreatedAt()));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertDetails(Connection connection, List<TransactionMaster> masters,
+                               List<List<TransactionDetail>> details) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_DETAIL)) {
+            boolean any = false;
+            for (int i = 0; i < masters.size(); i++) {
+                List<TransactionDetail> masterDetails = details.get(i);
+                if (masterDetails == null) {
+                    continue;
+                }
+                for (TransactionDetail td : masterDetails) {
+                    // Details live in the partition of their master's day.
+                    td.setMasterTxnId(masters.get(i).getTxnId());
+                    td.setTxnDate(masters.get(i).getTxnDate());
+                    ps.setLong(1, td.getMasterTxnId());
+                    ps.setDate(2, td.getTxnDate());
+                    ps.setString(3, td.getDetailType());
+                    ps.setBigDecimal(4, td.getAmount());
+                    ps.setString(5, td.getCurrency());
+                    ps.setString(6, td.getDescription());
+                    ps.setTimestamp(7, Timestamp.from(td.getLocalTxnDateTime()));
+                    ps.setTimestamp(8, Timestamp.from(td.getCreatedAt()));
+                    ps.addBatch();
+                    any = true;
+                }
+            }
+            if (any) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
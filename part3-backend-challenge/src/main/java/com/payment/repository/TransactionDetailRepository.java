@@ -2,29 +2,31 @@ package com.payment.repository;
 
 import com.payment.entity.TransactionDetail;
 import io.micronaut.data.annotation.Query;
-import io.micronaut.data.annotation.Repository;
-import io.micronaut.data.jdbc.annotation.JdbcRepository;
-import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.annotation.TypeDef;
+import io.micronaut.data.model.DataType;
 import io.micronaut.data.repository.reactive.ReactorCrudRepository;
 import reactor.core.publisher.Flux;
 
-import java.util.List;
+import java.time.LocalDate;
 
 /**
- * Repository for TransactionDetail entities.
+ * Repository for TransactionDetail entities, implemented per driver like {@link TransactionRepository}.
  */
-@Repository
-@JdbcRepository(dialect = Dialect.POSTGRES)
 public interface TransactionDetailRepository extends ReactorCrudRepository<TransactionDetail, Long> {
 
-    List<TransactionDetail> findByMasterTxnId(Long masterTxnId);
-
-    List<TransactionDetail> findByMasterTxnIdInList(List<Long> masterTxnIds);
-
+    /**
+     * Details of the given masters, ordered by master id. {@code startDate}/{@code endDate} bound the masters'
+     * {@code txn_date} so only their partitions are probed. The ids are bound as one {@code bigint[]}, so the
+     * statement text is the same for every page size.
+     */
     @Query("""
             SELECT *
             FROM operators.transaction_details td
-            WHERE td.master_txn_id IN (:masterTxnIds);
+            WHERE td.master_txn_id = ANY(:masterTxnIds)
+              AND td.txn_date >= :startDate
+              AND td.txn_date <= :endDate
+            ORDER BY td.master_txn_id, td.txn_detail_id;
             """)
-    Flux<TransactionDetail> findDetailsByMasterTxnIds(List<Long> masterTxnIds);
+    Flux<TransactionDetail> findDetailsByMasterTxnIds(@TypeDef(type = DataType.LONG_ARRAY) Long[] masterTxnIds,
+                                                      LocalDate startDate, LocalDate endDate);
 }
@@ -0,0 +1,127 @@
+package com.payment.repository;
+
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DDL for the daily {@code txn_date} partitions of the transaction tables. Partitions are named
+ * {@code <table>_pYYYYMMDD} and cover exactly one day. Table names come from callers in this codebase only.
+ */
+@Singleton
+public class TransactionPartitionRepository {
+
+    private static final String SCHEMA = "operators";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String IS_PARTITIONED = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM pg_partitioned_table pt
+                JOIN pg_class c ON c.oid = pt.partrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relname = ?
+            )
+            """;
+
+    private static final String LIST_PARTITIONS = """
+            SELECT child.relname
+            FROM pg_inherits i
+            JOIN pg_class parent ON parent.oid = i.inhparent
+            JOIN pg_class child ON child.oid = i.inhrelid
+            JOIN pg_namespace n ON n.oid = parent.relnamespace
+            WHERE n.nspname = ? AND parent.relname = ?
+            """;
+
+    private final TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    public TransactionPartitionRepository(TransactionOperations<Connection> transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    public boolean isPartitioned(String table) {
+        return transactionOperations.executeRead(status -> {
+            try (PreparedStatement ps = status.getConnection().prepareStatement(IS_PARTITIONED)) {
+                ps.setString(1, SCHEMA);
+                ps.setString(2, table);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() && rs.getBoolean(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Days of the daily partitions currently attached to {@code table}. The default partition is not included.
+     */
+    public List<LocalDate> listDailyPartitions(String table) {
+        return transactionOperations.executeRead(status -> {
+            List<LocalDate> days = new ArrayList<>();
+            try (PreparedStatement ps = status.getConnection().prepareStatement(LIST_PARTITIONS)) {
+                ps.setString(1, SCHEMA);
+                ps.setString(2, table);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        LocalDate day = partitionDay(table, rs.getString(1));
+                        if (day != null) {
+                            days.add(day);
+                        }
+                    }
+                }
+            }
+            return days;
+        });
+    }
+
+    /**
+     * Creates the partition of {@code table} for {@code day} unless it already exists.
+     */
+    public void createDailyPartition(String table, LocalDate day) {
+        execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + "." + partitionName(table, day)
+                + " PARTITION OF " + SCHEMA + "." + table
+                + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    /**
+     * Detaches the partition of {@code table} for {@code day}. The partition stays as a standalone table so it
+     * can be archived or dropped separately.
+     */
+    public void detachDailyPartition(String table, LocalDate day) {
+        execute("ALTER TABLE " + SCHEMA + "." + table + " DETACH PARTITION " + SCHEMA + "." + partitionName(table, day));
+    }
+
+    static String partitionName(String table, LocalDate day) {
+        return table + "_p" + SUFFIX.format(day);
+    }
+
+    static LocalDate partitionDay(String table, String partition) {
+        String prefix = table + "_p";
+        if (!partition.startsWith(prefix) || partition.length() != prefix.length() + 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(prefix.length()), SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void execute(String ddl) {
+        transactionOperations.executeWrite(status -> {
+            try (Statement statement = status.getConnection().createStatement()) {
+                statement.execute(ddl);
+            }
+            return null;
+        });
+    }
+}
@@ -1,69 +1,110 @@
 package com.payment.repository;
 
+import com.payment.dto.transaction.MerchantStatusTotal;
 import com.payment.dto.transaction.StatusSummary;
+import com.payment.dto.transaction.TransactionPageRow;
+import com.payment.dto.transaction.TransactionRow;
 import com.payment.entity.TransactionMaster;
 import io.micronaut.data.annotation.Query;
-import io.micronaut.data.annotation.Repository;
-import io.micronaut.data.jdbc.annotation.JdbcRepository;
-import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.reactive.ReactorCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
-import java.util.List;
+import java.time.LocalDate;
 
 /**
  * Repository for TransactionMaster entities.
- * 
- * TODO: Add custom query methods for:
- * - Finding transactions by merchant ID with date range
- * - Paginated queries
- * - Aggregation queries for summary calculation
- * - Join queries with transaction details
+ * <p>
+ * Queries are declared here once and implemented per driver by {@link com.payment.repository.jdbc.JdbcTransactionRepository}
+ * or {@link com.payment.repository.r2dbc.R2dbcTransactionRepository}, selected with {@code repository.driver}.
+ * <p>
+ * Date ranges are inclusive and filter on {@code txn_date}, the partition key, so Postgres only scans the
+ * partitions of the requested days (see {@code db/TransactionPartitioning.sql}).
+ * <p>
+ * Listing queries select only the columns of {@link TransactionRow} rather than the whole entity.
+ * <p>
+ * {@code status} is required and must be a {@link com.payment.entity.TransactionStatus#code()}: the exact match lets
+ * {@code idx_tm_merchant_status_created} serve both the filter and the {@code created_at DESC} order.
  */
-@Repository
-@JdbcRepository(dialect = Dialect.POSTGRES)
 public interface TransactionRepository extends ReactorCrudRepository<TransactionMaster, Long> {
 
-    // Example: Basic finder method (provided)
-    List<TransactionMaster> findByMerchantId(String merchantId);
-
-    // TODO: Add your custom query methods here
-    // Examples:
-    // - Page<TransactionMaster> findByMerchantIdAndTxnDateBetween(...)
-    // - TransactionSummary calculateSummary(...)
-    // - List<TransactionWithDetails> findTransactionsWithDetails(...)
     @Query("""
-            SELECT *
+            SELECT tm.txn_id, tm.gp_acquirer_id, tm.gp_issuer_id, tm.amount, tm.currency, tm.status, tm.card_type,
+                   tm.card_last4, tm.created_at, tm.txn_date
             FROM operators.transaction_master tm
             WHERE tm.merchant_id = :merchantId
-              AND tm.created_at >= :startDate
-              AND tm.created_at <= :endDate
-              AND (:status IS NULL OR LOWER(tm.status) = LOWER(:status))
-            ORDER BY tm.created_at DESC
+              AND tm.txn_date >= :startDate
+              AND tm.txn_date <= :endDate
+              AND tm.status = :status
+            ORDER BY tm.created_at DESC, tm.txn_id DESC
             LIMIT :limit OFFSET :offset;
             """)
-    Flux<TransactionMaster> findByMerchantIdAndDateRange(String merchantId, Instant startDate, Instant endDate, String status, int limit, long offset);
+    Flux<TransactionRow> findByMerchantIdAndDateRange(String merchantId, LocalDate startDate, LocalDate endDate, String status, int limit, long offset);
 
+    /**
+     * Keyset variant of {@link #findByMerchantIdAndDateRange}: seeks past the last {@code (created_at, txn_id)}
+     * seen by the client instead of skipping {@code offset} rows, so every page costs the same.
+     */
     @Query("""
-            SELECT COUNT(*)
+            SELECT tm.txn_id, tm.gp_acquirer_id, tm.gp_issuer_id, tm.amount, tm.currency, tm.status, tm.card_type,
+                   tm.card_last4, tm.created_at, tm.txn_date
             FROM operators.transaction_master tm
             WHERE tm.merchant_id = :merchantId
               AND tm.txn_date >= :startDate
               AND tm.txn_date <= :endDate
-              AND (:status IS NULL OR LOWER(tm.status) = LOWER(:status));
+              AND tm.status = :status
+              AND (tm.created_at, tm.txn_id) < (:cursorCreatedAt, :cursorTxnId)
+            ORDER BY tm.created_at DESC, tm.txn_id DESC
+            LIMIT :limit;
+            """)
+    Flux<TransactionRow> findByMerchantIdAndDateRangeAfter(String merchantId, LocalDate startDate, LocalDate endDate, String status,
+                                                           Instant cursorCreatedAt, long cursorTxnId, int limit);
+
+    /**
+     * Page, per-status totals and (by summing the totals) the row count in a single statement, so a listing
+     * scans the merchant's range once and holds one connection. See {@link TransactionPageRow} for the row layout.
+     */
+    @Query("""
+            WITH filtered AS (
+                SELECT tm.txn_id, tm.merchant_id, tm.gp_acquirer_id, tm.gp_issuer_id, tm.amount, tm.currency,
+                       tm.status, tm.card_type, tm.card_last4, tm.created_at, tm.txn_date
+                FROM operators.transaction_master tm
+                WHERE tm.merchant_id = :merchantId
+                  AND tm.txn_date >= :startDate
+                  AND tm.txn_date <= :endDate
+                  AND tm.status = :status
+            )
+            SELECT 'T' AS row_type, p.*, CAST(NULL AS bigint) AS txn_count, CAST(NULL AS numeric) AS total_amount
+            FROM (
+                SELECT * FROM filtered
+                ORDER BY created_at DESC, txn_id DESC
+                LIMIT :limit OFFSET :offset
+            ) p
+            UNION ALL
+            SELECT 'S', NULL, NULL, NULL, NULL, NULL, NULL, f.status, NULL, NULL, NULL, NULL, COUNT(*), SUM(f.amount)
+            FROM filtered f
+            GROUP BY f.status
+            ORDER BY row_type DESC, created_at DESC, txn_id DESC;
             """)
-    Mono<Long> countByMerchantIdAndDateRange(String merchantId, Instant startDate, Instant endDate, String status);
+    Flux<TransactionPageRow> findPageWithTotals(String merchantId, LocalDate startDate, LocalDate endDate, String status, int limit, long offset);
 
     @Query("""
             SELECT status, COUNT(*) as txn_count, SUM(amount) as total_amount
             FROM operators.transaction_master tm
             WHERE tm.merchant_id = :merchantId
-              AND tm.created_at >= :startDate
-              AND tm.created_at <= :endDate
-              AND (:status IS NULL OR LOWER(tm.status) = LOWER(:status))
+              AND tm.txn_date >= :startDate
+              AND tm.txn_date <= :endDate
+              AND tm.status = :status
             GROUP BY status;
             """)
-    Flux<StatusSummary> getStatusSummary(String merchantId, Instant startDate, Instant endDate, String status);
+    Flux<StatusSummary> getStatusSummary(String merchantId, LocalDate startDate, LocalDate endDate, String status);
+
+    @Query("""
+            SELECT tm.merchant_id, tm.status, COUNT(*) AS txn_count, SUM(tm.amount) AS total_amount
+            FROM operators.transaction_master tm
+            WHERE tm.txn_date = :day
+            GROUP BY tm.merchant_id, tm.status;
+            """)
+    Flux<MerchantStatusTotal> getDailyTotals(LocalDate day);
 }
@@ -0,0 +1,85 @@
+package com.payment.repository;
+
+import com.payment.dto.transaction.StatusChange;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based status transitions for transaction masters. Blocking.
+ */
+@Singleton
+public class TransactionStatusRepository {
+
+    /*
+     * One statement per chunk. The status check in the WHERE clause makes each row a compare-and-set:
+     * rows that moved on concurrently, or belong to another merchant, are simply not returned.
+     */
+    private static final String TRANSITION = """
+            UPDATE operators.transaction_master tm
+            SET status = v.to_status
+            FROM unnest(CAST(? AS bigint[]), CAST(? AS varchar[]), CAST(? AS varchar[])) AS v(txn_id, to_status, from_status)
+            WHERE tm.txn_id = v.txn_id
+              AND tm.merchant_id = ?
+              AND tm.status = v.from_status
+            RETURNING tm.txn_id, tm.txn_date, tm.amount, tm.status
+            """;
+
+    private static final String INSERT_FAILURES = """
+            INSERT INTO operators.transaction_status_failures (txn_id, merchant_id, target_status, error)
+            SELECT v.txn_id, ?, v.target_status, ?
+            FROM unnest(CAST(? AS bigint[]), CAST(? AS varchar[])) AS v(txn_id, target_status)
+            """;
+
+    private final TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    public TransactionStatusRepository(TransactionOperations<Connection> transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Moves each transaction from {@code fromStatuses[i]} to {@code toStatuses[i]} in one database transaction.
+     *
+     * @return the transitions that were applied
+     */
+    public List<StatusChange> transition(String merchantId, Long[] txnIds, String[] toStatuses, String[] fromStatuses) {
+        return transactionOperations.executeWrite(status -> {
+            Connection connection = status.getConnection();
+            List<StatusChange> changes = new ArrayList<>(txnIds.length);
+            try (PreparedStatement ps = connection.prepareStatement(TRANSITION)) {
+                ps.setArray(1, connection.createArrayOf("bigint", txnIds));
+                ps.setArray(2, connection.createArrayOf("varchar", toStatuses));
+                ps.setArray(3, connection.createArrayOf("varchar", fromStatuses));
+                ps.setString(4, merchantId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        changes.add(new StatusChange(rs.getLong(1), rs.getDate(2).toLocalDate(),
+                                rs.getBigDecimal(3), rs.getString(4)));
+                    }
+                }
+            }
+            return changes;
+        });
+    }
+
+    public void recordFailures(String merchantId, Long[] txnIds, String[] targetStatuses, String error) {
+        transactionOperations.executeWrite(status -> {
+            Connection connection = status.getConnection();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_FAILURES)) {
+                ps.setString(1, merchantId);
+                ps.setString(2, error);
+                ps.setArray(3, connection.createArrayOf("bigint", txnIds));
+                ps.setArray(4, connection.createArrayOf("varchar", targetStatuses));
+                ps.executeUpdate();
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.payment.repository.jdbc;
+
+import com.payment.repository.MerchantRepository;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+
+/**
+ * {@link MerchantRepository} over blocking JDBC, wrapped in Reactor types, on the primary datasource.
+ */
+@Repository
+@JdbcRepository(dialect = Dialect.POSTGRES)
+@Primary
+@Requires(property = "repository.driver", value = "jdbc", defaultValue = "jdbc")
+public interface JdbcMerchantRepository extends MerchantRepository {
+}
@@ -0,0 +1,20 @@
+package com.payment.repository.jdbc;
+
+import com.payment.repository.ReadReplicaRouter;
+import com.payment.repository.TransactionRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import jakarta.inject.Named;
+
+/**
+ * {@link TransactionRepository} over blocking JDBC, on the read-only {@code replica} datasource.
+ * Reads are routed to it by {@link ReadReplicaRouter}.
+ */
+@Repository(ReadReplicaRouter.REPLICA)
+@JdbcRepository(dialect = Dialect.POSTGRES)
+@Named(ReadReplicaRouter.REPLICA)
+@Requires(property = "repository.driver", value = "jdbc", defaultValue = "jdbc")
+public interface JdbcReplicaTransactionRepository extends TransactionRepository {
+}
@@ -0,0 +1,25 @@
+package com.payment.repository.jdbc;
+
+import com.payment.entity.TransactionDetail;
+import com.payment.repository.TransactionDetailRepository;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+
+import java.util.List;
+
+/**
+ * {@link TransactionDetailRepository} over blocking JDBC, wrapped in Reactor types, on the primary datasource.
+ */
+@Repository
+@JdbcRepository(dialect = Dialect.POSTGRES)
+@Primary
+@Requires(property = "repository.driver", value = "jdbc", defaultValue = "jdbc")
+public interface JdbcTransactionDetailRepository extends TransactionDetailRepository {
+
+    List<TransactionDetail> findByMasterTxnId(Long masterTxnId);
+
+    List<TransactionDetail> findByMasterTxnIdInList(List<Long> masterTxnIds);
+}
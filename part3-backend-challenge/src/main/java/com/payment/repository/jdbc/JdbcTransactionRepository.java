@@ -0,0 +1,23 @@
+package com.payment.repository.jdbc;
+
+import com.payment.entity.TransactionMaster;
+import com.payment.repository.TransactionRepository;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+
+import java.util.List;
+
+/**
+ * {@link TransactionRepository} over blocking JDBC, wrapped in Reactor types, on the primary datasource.
+ */
+@Repository
+@JdbcRepository(dialect = Dialect.POSTGRES)
+@Primary
+@Requires(property = "repository.driver", value = "jdbc", defaultValue = "jdbc")
+public interface JdbcTransactionRepository extends TransactionRepository {
+
+    List<TransactionMaster> findByMerchantId(String merchantId);
+}
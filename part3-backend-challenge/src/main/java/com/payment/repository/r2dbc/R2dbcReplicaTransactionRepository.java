@@ -0,0 +1,18 @@
+package com.payment.repository.r2dbc;
+
+import com.payment.repository.ReadReplicaRouter;
+import com.payment.repository.TransactionRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import jakarta.inject.Named;
+
+/**
+ * {@link TransactionRepository} over non-blocking R2DBC, on the read-only {@code replica} datasource.
+ * Reads are routed to it by {@link ReadReplicaRouter}.
+ */
+@R2dbcRepository(value = ReadReplicaRouter.REPLICA, dialect = Dialect.POSTGRES)
+@Named(ReadReplicaRouter.REPLICA)
+@Requires(property = "repository.driver", value = "r2dbc")
+public interface R2dbcReplicaTransactionRepository extends TransactionRepository {
+}
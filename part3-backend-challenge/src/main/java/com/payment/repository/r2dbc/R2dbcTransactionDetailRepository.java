@@ -0,0 +1,16 @@
+package com.payment.repository.r2dbc;
+
+import com.payment.repository.TransactionDetailRepository;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+
+/**
+ * {@link TransactionDetailRepository} over non-blocking R2DBC, on the primary datasource.
+ */
+@R2dbcRepository(dialect = Dialect.POSTGRES)
+@Primary
+@Requires(property = "repository.driver", value = "r2dbc")
+public interface R2dbcTransactionDetailRepository extends TransactionDetailRepository {
+}
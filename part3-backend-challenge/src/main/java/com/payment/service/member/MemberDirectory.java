@@ -0,0 +1,100 @@
+package com.payment.service.member;
+
+import com.payment.entity.Member;
+import com.payment.repository.MemberRepository;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * In-memory snapshot of {@code operators.members} used to resolve acquirer and issuer names without joining
+ * the members table on every transaction query. The table is small and rarely changes, so the snapshot is
+ * loaded at startup, rebuilt on a fixed delay and swapped in atomically; {@link #refresh()} can be called
+ * directly whenever members are known to have changed.
+ */
+@Singleton
+public class MemberDirectory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemberDirectory.class);
+
+    private final MemberRepository memberRepository;
+
+    private volatile MemberNameIndex index = MemberNameIndex.EMPTY;
+
+    @Inject
+    public MemberDirectory(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOG.warn("Could not load member directory at startup, names will be empty until the next refresh", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = "${members.directory.refresh-interval:5m}", initialDelay = "${members.directory.refresh-interval:5m}")
+    void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOG.warn("Member directory refresh failed, keeping the previous snapshot", e);
+        }
+    }
+
+    /**
+     * Reloads all members from the database and replaces the current snapshot.
+     *
+     * @return the number of members in the new snapshot
+     */
+    public int refresh() {
+        int size = load(memberRepository.findAll());
+        LOG.info("Member directory loaded with {} members", size);
+        return size;
+    }
+
+    /**
+     * Replaces the current snapshot with the given members.
+     *
+     * @return the number of members in the new snapshot
+     */
+    public int load(Iterable<Member> members) {
+        long[] ids = new long[64];
+        String[] names = new String[64];
+        int count = 0;
+        for (Member member : members) {
+            if (member.getMemberId() == null || member.getMemberName() == null) {
+                continue;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                names = Arrays.copyOf(names, count * 2);
+            }
+            ids[count] = member.getMemberId();
+            names[count] = member.getMemberName();
+            count++;
+        }
+        MemberNameIndex next = MemberNameIndex.of(ids, names, count);
+        index = next;
+        return next.size();
+    }
+
+    /**
+     * @return the member name, or {@code null} when the id is {@code null} or unknown
+     */
+    public String nameOf(Long memberId) {
+        return memberId == null ? null : index.get(memberId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.payment.service.member;
+
+/**
+ * Immutable open-addressing map from {@code member_id} to member name. Keys stay primitive {@code long}s, so a
+ * lookup costs one hash and usually one probe, with no boxing on the transaction mapping path.
+ */
+final class MemberNameIndex {
+
+    static final MemberNameIndex EMPTY = new MemberNameIndex(new long[1], new String[1], 0);
+
+    private final long[] keys;
+    private final String[] names;
+    private final int size;
+    private final int mask;
+
+    private MemberNameIndex(long[] keys, String[] names, int size) {
+        this.keys = keys;
+        this.names = names;
+        this.size = size;
+        this.mask = keys.length - 1;
+    }
+
+    static MemberNameIndex of(long[] ids, String[] memberNames, int count) {
+        // Keep the load factor at or below 0.5 so probe chains stay short.
+        int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+        long[] keys = new long[capacity];
+        String[] names = new String[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = slot(ids[i], mask);
+            while (names[slot] != null && keys[slot] != ids[i]) {
+                slot = (slot + 1) & mask;
+            }
+            if (names[slot] == null) {
+                size++;
+            }
+            keys[slot] = ids[i];
+            names[slot] = memberNames[i];
+        }
+        return new MemberNameIndex(keys, names, size);
+    }
+
+    String get(long id) {
+        int slot = slot(id, mask);
+        String name;
+        while ((name = names[slot]) != null) {
+            if (keys[slot] == id) {
+                return name;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int slot(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
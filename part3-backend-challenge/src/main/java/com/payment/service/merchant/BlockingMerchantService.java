@@ -0,0 +1,19 @@
+package com.payment.service.merchant;
+
+import com.payment.dto.merchant.*;
+
+/**
+ * Blocking view of {@link MerchantService} for handlers that run on virtual threads.
+ */
+public interface BlockingMerchantService {
+
+    MerchantListResponse listMerchants(MerchantListRequest request);
+
+    MerchantDetailResponse getMerchant(Long merchantId);
+
+    CreateMerchantResponse createMerchant(CreateMerchantRequest request);
+
+    UpdateMerchantResponse updateMerchant(Long merchantId, UpdateMerchantRequest request);
+
+    void deactivateMerchant(Long merchantId);
+}
@@ -0,0 +1,43 @@
+package com.payment.service.merchant;
+
+import com.payment.dto.merchant.*;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Requires(property = "controllers.execution-mode", value = "virtual")
+public class BlockingMerchantServiceImpl implements BlockingMerchantService {
+
+    private final MerchantService merchantService;
+
+    @Inject
+    public BlockingMerchantServiceImpl(MerchantService merchantService) {
+        this.merchantService = merchantService;
+    }
+
+    @Override
+    public MerchantListResponse listMerchants(MerchantListRequest request) {
+        return merchantService.listMerchants(request).block();
+    }
+
+    @Override
+    public MerchantDetailResponse getMerchant(Long merchantId) {
+        return merchantService.getMerchant(merchantId).block();
+    }
+
+    @Override
+    public CreateMerchantResponse createMerchant(CreateMerchantRequest request) {
+        return merchantService.createMerchant(request).block();
+    }
+
+    @Override
+    public UpdateMerchantResponse updateMerchant(Long merchantId, UpdateMerchantRequest request) {
+        return merchantService.updateMerchant(merchantId, request).block();
+    }
+
+    @Override
+    public void deactivateMerchant(Long merchantId) {
+        merchantService.deactivateMerchant(merchantId).block();
+    }
+}
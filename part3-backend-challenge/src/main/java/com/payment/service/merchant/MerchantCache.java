@@ -0,0 +1,88 @@
+package com.payment.service.merchant;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.payment.entity.Merchant;
+import com.payment.repository.ReadReplicaRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-through cache of merchants by id.
+ * <p>
+ * Merchants change rarely compared with how often their limits, status and settlement settings are read, so entries
+ * live for {@code merchants.cache.ttl} and the cache holds at most {@code merchants.cache.maximum-size} of them.
+ * Writers call {@link #put} with the saved row. The entry is replaced in place, so a load that was in flight when
+ * the write landed cannot reinstall the old row. Cached instances are shared and must not be modified. Misses are
+ * loaded through {@link ReadReplicaRouter}, normally from the replica, so a read-modify-write must load its row from
+ * the primary rather than from here.
+ */
+@Singleton
+public class MerchantCache {
+
+    private final ReadReplicaRouter readRouter;
+    private final AsyncCache<Long, Merchant> byId;
+    private final AsyncCache<CountKey, Long> counts;
+
+    @Inject
+    public MerchantCache(ReadReplicaRouter readRouter,
+                         MeterRegistry meterRegistry,
+                         @Value("${merchants.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${merchants.cache.ttl:10m}") Duration ttl,
+                         @Value("${merchants.cache.count-ttl:1m}") Duration countTtl) {
+        this.readRouter = readRouter;
+        this.byId = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<Long, Merchant>buildAsync(), "merchants");
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(countTtl)
+                .buildAsync();
+    }
+
+    public Mono<Merchant> findByMerchantId(Long merchantId) {
+        return Mono.fromFuture(() -> byId.get(merchantId, (id, executor) ->
+                readRouter.merchants(id).findByMerchantId(id).toFuture()), true);
+    }
+
+    /**
+     * Number of merchants matching the filters, recounted at most once per {@code merchants.cache.count-ttl}.
+     * Approximate by design: rows written since the last count are not reflected until it expires.
+     */
+    public Mono<Long> countFiltered(String status, String country, Long acquirerId) {
+        CountKey key = new CountKey(status, country, acquirerId);
+        return Mono.fromFuture(() -> counts.get(key, (k, executor) ->
+                readRouter.merchants().countFiltered(k.status(), k.country(), k.acquirerId()).toFuture()), true);
+    }
+
+    /**
+     * Replaces the cached row with one just written to the database.
+     */
+    public void put(Merchant merchant) {
+        if (merchant.getMerchantId() == null) {
+            return;
+        }
+        byId.put(merchant.getMerchantId(), CompletableFuture.completedFuture(merchant));
+    }
+
+    public void invalidate(Long merchantId) {
+        byId.synchronous().invalidate(merchantId);
+    }
+
+    public CacheStats stats() {
+        return byId.synchronous().stats();
+    }
+
+    private record CountKey(String status, String country, Long acquirerId) {
+    }
+}
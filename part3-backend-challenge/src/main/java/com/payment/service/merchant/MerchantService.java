@@ -5,7 +5,7 @@ import reactor.core.publisher.Mono;
 
 public interface MerchantService {
 
-    Mono<MerchantListResponse> listMerchants(int page, int size);
+    Mono<MerchantListResponse> listMerchants(MerchantListRequest request);
 
     Mono<MerchantDetailResponse> getMerchant(Long merchantId);
 
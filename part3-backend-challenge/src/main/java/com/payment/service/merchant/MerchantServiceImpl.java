@@ -4,41 +4,63 @@ import com.payment.dto.Pagination;
 import com.payment.dto.merchant.*;
 import com.payment.entity.Merchant;
 import com.payment.repository.MerchantRepository;
-import io.micronaut.data.model.Pageable;
+import com.payment.repository.ReadReplicaRouter;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Singleton
 public class MerchantServiceImpl implements MerchantService {
 
     private final MerchantRepository merchantRepository;
+    private final MerchantCache merchantCache;
+    private final ReadReplicaRouter readRouter;
 
     @Inject
-    public MerchantServiceImpl(MerchantRepository merchantRepository) {
+    public MerchantServiceImpl(MerchantRepository merchantRepository, MerchantCache merchantCache,
+                               ReadReplicaRouter readRouter) {
         this.merchantRepository = merchantRepository;
+        this.merchantCache = merchantCache;
+        this.readRouter = readRouter;
     }
 
     @Override
-    public Mono<MerchantListResponse> listMerchants(int page, int size) {
-        return merchantRepository.findAll(Pageable.from(page, size))
-                .map(merchantPage -> {
-                    Pagination pagination = new Pagination(
-                            merchantPage.getPageNumber(),
-                            merchantPage.getSize(),
-                            merchantPage.getTotalPages(),
-                            merchantPage.getTotalSize()
-                    );
-                    return new MerchantListResponse(merchantPage.getContent(), pagination);
-                });
+    public Mono<MerchantListResponse> listMerchants(MerchantListRequest request) {
+        int size = request.getSize();
+        long afterMerchantId = 0;
+        long offset = (long) request.getPage() * size;
+        if (request.getCursor() != null) {
+            afterMerchantId = request.getCursor();
+            offset = 0;
+        }
+
+        Mono<List<Merchant>> slice = readRouter.merchants().findSlice(afterMerchantId, request.getStatus(),
+                        request.getCountry(), request.getAcquirerId(), size + 1, offset)
+                .collectList();
+        Mono<Optional<Long>> total = request.isWithTotals()
+                ? merchantCache.countFiltered(request.getStatus(), request.getCountry(), request.getAcquirerId())
+                        .map(Optional::of)
+                : Mono.just(Optional.empty());
+
+        return slice.zipWith(total, (fetched, count) -> {
+            boolean hasNext = fetched.size() > size;
+            List<Merchant> merchants = hasNext ? fetched.subList(0, size) : fetched;
+            String nextCursor = hasNext ? String.valueOf(merchants.get(merchants.size() - 1).getMerchantId()) : null;
+            Long totalElements = count.orElse(null);
+            int totalPages = totalElements == null ? 0 : (int) Math.ceil((double) totalElements / size);
+            Pagination pagination = new Pagination(request.getPage(), size, totalPages, totalElements, hasNext, nextCursor);
+            return new MerchantListResponse(merchants, pagination);
+        });
     }
 
     @Override
     public Mono<MerchantDetailResponse> getMerchant(Long merchantId) {
-        return merchantRepository.findByMerchantId(merchantId)
+        return merchantCache.findByMerchantId(merchantId)
                 .flatMap(merchant -> Mono.just(new MerchantDetailResponse(merchant)))
                 .onErrorResume(e -> Mono.error(new RuntimeException("Merchant not found")));
     }
@@ -68,7 +90,13 @@ public class MerchantServiceImpl implements MerchantService {
         merchant.setUpdatedAt(java.time.LocalDateTime.now());
         merchant.setRiskLevel("low");
 
+        // The merchant code is assigned by a trigger and is not returned by the insert, so the row is not cached
+        // from here; the first read loads it complete.
         return merchantRepository.save(merchant)
+                .doOnNext(saved -> {
+                    readRouter.recordMerchantWrite(saved.getMerchantId());
+                    merchantCache.invalidate(saved.getMerchantId());
+                })
                 .map(saved ->
                         new CreateMerchantResponse(saved.getMerchantId(),
                                 saved.getMerchantCode(),
@@ -94,6 +122,7 @@ public class MerchantServiceImpl implements MerchantService {
                     merchant.setUpdatedAt(LocalDateTime.now());
 
                     return merchantRepository.update(merchant)
+                            .doOnNext(this::onUpdated)
                             .map(saved -> new UpdateMerchantResponse(saved.getMerchantId(), saved.getStatus(), "Merchant updated successfully"));
                 });
     }
@@ -105,6 +134,13 @@ public class MerchantServiceImpl implements MerchantService {
                     merchant.setStatus("inactive");
                     merchant.setUpdatedAt(LocalDateTime.now());
                     return merchantRepository.update(merchant);
-                }).then();
+                })
+                .doOnNext(this::onUpdated)
+                .then();
+    }
+
+    private void onUpdated(Merchant merchant) {
+        readRouter.recordMerchantWrite(merchant.getMerchantId());
+        merchantCache.put(merchant);
     }
 }
@@ -0,0 +1,110 @@
+package com.payment.service.partition;
+
+import com.payment.repository.TransactionPartitionRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the daily {@code txn_date} partitions of {@code transaction_master} and {@code transaction_details}
+ * ahead of the calendar and, when {@code retention-days} is set, detaches the ones past it. Does nothing until the tables have been converted
+ * with {@code db/TransactionPartitioning.sql}.
+ */
+@Singleton
+@Requires(property = "transactions.partitions.enabled", value = "true", defaultValue = "true")
+public class PartitionManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionManager.class);
+
+    private static final String MASTER = "transaction_master";
+    private static final String DETAILS = "transaction_details";
+
+    private final TransactionPartitionRepository partitionRepository;
+    private final int premakeDays;
+    private final int retentionDays;
+
+    @Inject
+    public PartitionManager(TransactionPartitionRepository partitionRepository,
+                            @Value("${transactions.partitions.premake-days:7}") int premakeDays,
+                            @Value("${transactions.partitions.retention-days:0}") int retentionDays) {
+        this.partitionRepository = partitionRepository;
+        this.premakeDays = premakeDays;
+        this.retentionDays = retentionDays;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            LOG.warn("Partition maintenance failed at startup, retrying on the next run", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = "${transactions.partitions.maintenance-interval:6h}",
+            initialDelay = "${transactions.partitions.maintenance-interval:6h}")
+    void scheduledMaintain() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            LOG.warn("Partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Creates the partitions from today through {@code premake-days} ahead and, with a positive
+     * {@code retention-days}, detaches partitions older than that. A day that fails is logged and skipped, so one
+     * bad partition (e.g. rows for that day already sitting in the DEFAULT partition) does not hold up the others
+     * or retention; it is retried on the next run.
+     */
+    public void maintain() {
+        if (!partitionRepository.isPartitioned(MASTER)) {
+            LOG.debug("{} is not partitioned, skipping partition maintenance", MASTER);
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            try {
+                // Details reference their master's partition key, so the master partition goes first.
+                partitionRepository.createDailyPartition(MASTER, day);
+                partitionRepository.createDailyPartition(DETAILS, day);
+            } catch (RuntimeException e) {
+                LOG.warn("Could not create the transaction partitions for {}", day, e);
+            }
+        }
+
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDate cutoff = today.minusDays(retentionDays);
+        int detached = 0;
+        // Details first: a master partition cannot be detached while detail rows still reference it.
+        for (String table : new String[]{DETAILS, MASTER}) {
+            for (LocalDate day : partitionRepository.listDailyPartitions(table)) {
+                if (!day.isBefore(cutoff)) {
+                    continue;
+                }
+                try {
+                    partitionRepository.detachDailyPartition(table, day);
+                    detached++;
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not detach the {} partition for {}", table, day, e);
+                }
+            }
+        }
+        if (detached > 0) {
+            LOG.info("Detached {} transaction partitions older than {}", detached, cutoff);
+        }
+    }
+}
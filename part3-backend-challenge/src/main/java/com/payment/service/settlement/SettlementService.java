@@ -0,0 +1,30 @@
+package com.payment.service.settlement;
+
+import com.payment.dto.settlement.SettlementRequest;
+import com.payment.dto.settlement.SettlementResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface SettlementService {
+
+    /**
+     * Stored settlements of the requested closed days. Read-only: days not settled yet, or changed since they were
+     * settled, are listed as pending until the scheduled job or {@link #settle} computes them.
+     */
+    Mono<SettlementResponse> getSettlements(SettlementRequest request);
+
+    /**
+     * Settles the days in {@code [from, to]} that are past the grace period and not settled yet, or changed since.
+     *
+     * @return the number of days that were (re)computed
+     */
+    Mono<Integer> settle(LocalDate from, LocalDate to);
+
+    /**
+     * Records that transactions of {@code days} were created or changed, so settled days among them are recomputed.
+     * Never fails; an error is logged.
+     */
+    Mono<Void> markChanged(Collection<LocalDate> days);
+}
@@ -0,0 +1,182 @@
+package com.payment.service.settlement;
+
+import com.payment.dto.settlement.Settlement;
+import com.payment.dto.settlement.SettlementRequest;
+import com.payment.dto.settlement.SettlementResponse;
+import com.payment.dto.settlement.SettlementRow;
+import com.payment.exception.InvalidParameterException;
+import com.payment.repository.SettlementRepository;
+import com.payment.service.member.MemberDirectory;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Settles each closed {@code txn_date} into {@code operators.daily_settlements} and serves the stored rows. A day is
+ * settled once it has been over for {@code settlements.grace-period} (UTC), and settled again after transactions of
+ * that day were created or changed. Days are settled in parallel, one transaction and one connection per day; with
+ * daily partitions each one reads a single partition of each transaction table.
+ * <p>
+ * Only the scheduled job and explicit {@link #settle} calls write; {@link #getSettlements} reads.
+ */
+@Singleton
+public class SettlementServiceImpl implements SettlementService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SettlementServiceImpl.class);
+
+    private final SettlementRepository settlementRepository;
+    private final MemberDirectory memberDirectory;
+    private final int parallelism;
+    private final int lookbackDays;
+    private final int maxRangeDays;
+    private final Duration gracePeriod;
+
+    @Inject
+    public SettlementServiceImpl(SettlementRepository settlementRepository,
+                                 MemberDirectory memberDirectory,
+                                 @Value("${settlements.parallelism:4}") int parallelism,
+                                 @Value("${settlements.lookback-days:7}") int lookbackDays,
+                                 @Value("${settlements.max-range-days:92}") int maxRangeDays,
+                                 @Value("${settlements.grace-period:1h}") Duration gracePeriod) {
+        this.settlementRepository = settlementRepository;
+        this.memberDirectory = memberDirectory;
+        this.parallelism = parallelism;
+        this.lookbackDays = lookbackDays;
+        this.maxRangeDays = maxRangeDays;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Override
+    public Mono<SettlementResponse> getSettlements(SettlementRequest request) {
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        String invalid = checkRange(start, end);
+        if (invalid == null && !end.isBefore(today())) {
+            invalid = "Settlements are only available for closed days, before " + today();
+        }
+        if (invalid != null) {
+            return Mono.error(new InvalidParameterException(invalid));
+        }
+
+        return Mono.fromCallable(() -> {
+                    List<SettlementRow> rows = settlementRepository.findSettlements(start, end,
+                            request.getMemberId(), request.getMerchantId());
+                    Set<LocalDate> settled = new HashSet<>(settlementRepository.listSettledDays(start, end));
+                    List<LocalDate> pending = start.datesUntil(end.plusDays(1)).filter(day -> !settled.contains(day)).toList();
+                    return new SettlementResponse(start, end, rows.stream().map(this::toSettlement).toList(), pending);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Integer> settle(LocalDate from, LocalDate to) {
+        String invalid = checkRange(from, to);
+        if (invalid != null) {
+            return Mono.error(new InvalidParameterException(invalid));
+        }
+        LocalDate lastClosed = lastSettleableDay();
+        LocalDate end = to.isAfter(lastClosed) ? lastClosed : to;
+        if (end.isBefore(from)) {
+            return Mono.just(0);
+        }
+
+        return Mono.fromCallable(() -> settlementRepository.listSettledDays(from, end))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(settled -> {
+                    Set<LocalDate> done = new HashSet<>(settled);
+                    return Flux.fromStream(from.datesUntil(end.plusDays(1)).filter(day -> !done.contains(day)));
+                })
+                .flatMap(day -> Mono.fromCallable(() -> settlementRepository.settleDay(day))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doOnNext(rows -> LOG.info("Settled {} with {} rows", day, rows)), parallelism)
+                .count()
+                .map(Long::intValue);
+    }
+
+    @Override
+    public Mono<Void> markChanged(Collection<LocalDate> days) {
+        // Only closed days can have been settled; today's creates and updates are the common case and skip the write.
+        LocalDate today = today();
+        Set<LocalDate> closed = new HashSet<>();
+        for (LocalDate day : days) {
+            if (day != null && day.isBefore(today)) {
+                closed.add(day);
+            }
+        }
+        if (closed.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.<Void>fromRunnable(() -> settlementRepository.markDirty(closed))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    LOG.error("Could not mark settlement days {} for recomputation", closed, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Settles the days closed within {@code lookback-days} that are still missing or changed since, e.g. yesterday
+     * once the grace period is over.
+     */
+    @Scheduled(cron = "${settlements.cron:0 5 * * * *}", zoneId = "UTC")
+    void settleRecentDays() {
+        LocalDate today = today();
+        try {
+            settle(today.minusDays(lookbackDays), today.minusDays(1)).block();
+        } catch (RuntimeException e) {
+            LOG.warn("Scheduled settlement failed, retrying on the next run", e);
+        }
+    }
+
+    private Settlement toSettlement(SettlementRow row) {
+        BigDecimal average = row.txnCount() == 0
+                ? BigDecimal.ZERO
+                : row.completedAmount().divide(BigDecimal.valueOf(row.txnCount()), 2, RoundingMode.HALF_UP);
+        BigDecimal net = row.completedAmount().subtract(row.feeAmount()).subtract(row.refundAmount());
+        return new Settlement(row.settlementDate(), row.memberId(), memberDirectory.nameOf(row.memberId()),
+                row.merchantId(), row.currency(), row.txnCount(), row.completedAmount(), average,
+                row.feeAmount(), row.refundAmount(), net);
+    }
+
+    /**
+     * Why {@code [start, end]} cannot be settled or listed, or {@code null} if it can.
+     */
+    private String checkRange(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return "endDate must not be before startDate";
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            return "Date range must not exceed " + maxRangeDays + " days";
+        }
+        return null;
+    }
+
+    /**
+     * The last day whose grace period is over: yesterday, or the day before while late transactions may still arrive.
+     */
+    private LocalDate lastSettleableDay() {
+        return LocalDate.ofInstant(Instant.now().minus(gracePeriod), ZoneOffset.UTC).minusDays(1);
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
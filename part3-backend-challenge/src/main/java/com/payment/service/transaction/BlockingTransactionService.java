@@ -0,0 +1,26 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.BatchTransactionRequest;
+import com.payment.dto.transaction.BatchTransactionResponse;
+import com.payment.dto.transaction.CreateTransactionResponse;
+import com.payment.dto.transaction.StatusUpdateRequest;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.TransactionListRequest;
+import com.payment.dto.transaction.TransactionRequest;
+import com.payment.dto.transaction.TransactionResponse;
+
+/**
+ * Blocking view of {@link TransactionService} for handlers that run on virtual threads.
+ */
+public interface BlockingTransactionService {
+
+    TransactionResponse getTransactions(TransactionListRequest request);
+
+    TransactionListing getTransactionListing(TransactionListRequest request);
+
+    CreateTransactionResponse createTransaction(TransactionRequest request);
+
+    BatchTransactionResponse createTransactions(String merchantId, BatchTransactionRequest request);
+
+    StatusUpdateResponse updateStatuses(String merchantId, StatusUpdateRequest request);
+}
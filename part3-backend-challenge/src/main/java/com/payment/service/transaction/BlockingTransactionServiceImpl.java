@@ -0,0 +1,54 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.BatchTransactionRequest;
+import com.payment.dto.transaction.BatchTransactionResponse;
+import com.payment.dto.transaction.CreateTransactionResponse;
+import com.payment.dto.transaction.StatusUpdateRequest;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.TransactionListRequest;
+import com.payment.dto.transaction.TransactionRequest;
+import com.payment.dto.transaction.TransactionResponse;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Runs the reactive service to completion on the calling thread. With the JDBC repositories the queries already
+ * execute on the subscribing thread, so on a virtual thread this is a plain blocking call with no extra hop.
+ */
+@Singleton
+@Requires(property = "controllers.execution-mode", value = "virtual")
+public class BlockingTransactionServiceImpl implements BlockingTransactionService {
+
+    private final TransactionService transactionService;
+
+    @Inject
+    public BlockingTransactionServiceImpl(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @Override
+    public TransactionResponse getTransactions(TransactionListRequest request) {
+        return transactionService.getTransactions(request).block();
+    }
+
+    @Override
+    public TransactionListing getTransactionListing(TransactionListRequest request) {
+        return transactionService.getTransactionListing(request).block();
+    }
+
+    @Override
+    public CreateTransactionResponse createTransaction(TransactionRequest request) {
+        return transactionService.createTransaction(request).block();
+    }
+
+    @Override
+    public BatchTransactionResponse createTransactions(String merchantId, BatchTransactionRequest request) {
+        return transactionService.createTransactions(merchantId, request).block();
+    }
+
+    @Override
+    public StatusUpdateResponse updateStatuses(String merchantId, StatusUpdateRequest request) {
+        return transactionService.updateStatuses(merchantId, request).block();
+    }
+}
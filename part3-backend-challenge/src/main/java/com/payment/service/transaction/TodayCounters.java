@@ -0,0 +1,174 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.MerchantStatusTotal;
+import com.payment.dto.transaction.StatusSummary;
+import com.payment.entity.TransactionMaster;
+import com.payment.entity.TransactionStatus;
+import com.payment.repository.TransactionRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-merchant, per-status transaction count and amount for the current UTC {@code txn_date}, kept in memory so
+ * the summary of a "today" listing needs no GROUP BY. Seeded from the database at startup, updated by every
+ * successful create, and started afresh on the first access after UTC midnight.
+ * <p>
+ * Only writes made through this instance are counted after seeding, so it is off by default: enable it only where
+ * one instance takes all creates. Until seeding succeeds (or the day rolls over) {@link #summaries} returns empty and callers query
+ * the database instead.
+ */
+@Singleton
+@Requires(property = "transactions.today-counters.enabled", value = "true", defaultValue = "false")
+public class TodayCounters {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TodayCounters.class);
+
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private final TransactionRepository transactionRepository;
+    private final Clock clock;
+    private final AtomicReference<Day> current;
+
+    @Inject
+    public TodayCounters(TransactionRepository transactionRepository) {
+        this(transactionRepository, Clock.systemUTC());
+    }
+
+    TodayCounters(TransactionRepository transactionRepository, Clock clock) {
+        this.transactionRepository = transactionRepository;
+        this.clock = clock;
+        this.current = new AtomicReference<>(new Day(LocalDate.now(clock), false));
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        Day day = current();
+        try {
+            transactionRepository.getDailyTotals(day.date)
+                    .doOnNext(total -> day.merchant(total.merchantId())
+                            .add(TransactionStatus.of(total.status()), total.txnCount(), total.totalAmount()))
+                    .blockLast();
+            day.seeded = true;
+            LOG.info("Seeded today's counters for {} merchants", day.merchants.size());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not seed today's counters, summaries for today use the database until midnight UTC", e);
+        }
+    }
+
+    /**
+     * Counts a transaction that has been committed. Transactions dated other than today are ignored.
+     */
+    public void record(TransactionMaster tm) {
+        Day day = current();
+        if (tm.getTxnDate() != null && day.date.equals(tm.getTxnDate().toLocalDate())) {
+            day.merchant(tm.getMerchantId()).add(TransactionStatus.of(tm.getStatus()), 1, tm.getAmount());
+        }
+    }
+
+    /**
+     * Moves a committed transaction's count and amount from one status to another. Ignored unless it is dated today.
+     */
+    public void transition(String merchantId, LocalDate txnDate, TransactionStatus from, TransactionStatus to,
+                           BigDecimal amount) {
+        Day day = current();
+        if (day.date.equals(txnDate)) {
+            MerchantCounters counters = day.merchant(merchantId);
+            counters.add(from, -1, amount == null ? null : amount.negate());
+            counters.add(to, 1, amount);
+        }
+    }
+
+    /**
+     * Today's summary of the merchant in the shape {@code getStatusSummary} returns, restricted to {@code status}
+     * when given. Empty when {@code day} is not today or the counters are not seeded.
+     */
+    public Optional<List<StatusSummary>> summaries(String merchantId, LocalDate day, String status) {
+        Day today = current();
+        if (!today.seeded || !today.date.equals(day)) {
+            return Optional.empty();
+        }
+        MerchantCounters counters = today.merchants.get(merchantId);
+        List<StatusSummary> summaries = new ArrayList<>(STATUSES.length);
+        if (counters != null) {
+            for (TransactionStatus s : STATUSES) {
+                if (status == null || s.code().equals(status)) {
+                    counters.summary(s).ifPresent(summaries::add);
+                }
+            }
+        }
+        return Optional.of(summaries);
+    }
+
+    private Day current() {
+        LocalDate today = LocalDate.now(clock);
+        Day day = current.get();
+        while (!day.date.equals(today)) {
+            // Nothing dated the new day has been recorded yet, so an empty day is complete.
+            Day next = new Day(today, true);
+            if (current.compareAndSet(day, next)) {
+                return next;
+            }
+            day = current.get();
+        }
+        return day;
+    }
+
+    private static final class Day {
+        final LocalDate date;
+        final Map<String, MerchantCounters> merchants = new ConcurrentHashMap<>();
+        volatile boolean seeded;
+
+        Day(LocalDate date, boolean seeded) {
+            this.date = date;
+            this.seeded = seeded;
+        }
+
+        MerchantCounters merchant(String merchantId) {
+            return merchants.computeIfAbsent(merchantId, id -> new MerchantCounters());
+        }
+    }
+
+    private static final class MerchantCounters {
+        final LongAdder[] counts = new LongAdder[STATUSES.length];
+        final LongAdder[] cents = new LongAdder[STATUSES.length];
+
+        MerchantCounters() {
+            for (int i = 0; i < STATUSES.length; i++) {
+                counts[i] = new LongAdder();
+                cents[i] = new LongAdder();
+            }
+        }
+
+        void add(TransactionStatus status, long count, BigDecimal amount) {
+            counts[status.ordinal()].add(count);
+            if (amount != null) {
+                cents[status.ordinal()].add(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+            }
+        }
+
+        Optional<StatusSummary> summary(TransactionStatus status) {
+            long count = counts[status.ordinal()].sum();
+            if (count == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new StatusSummary(status.code(), count, BigDecimal.valueOf(cents[status.ordinal()].sum(), 2)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.Detail;
+import com.payment.dto.transaction.Transactions;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.StringJoiner;
+
+/**
+ * Turns a stream of {@link Transactions} into export lines. Each emitted string is written to the
+ * response as its own chunk, so nothing beyond the current record is buffered here.
+ */
+@Singleton
+public class TransactionExportFormatter {
+
+    static final String CSV_HEADER = "txn_id,amount,currency,status,timestamp,card_type,card_last4,acquirer,issuer," +
+            "detail_id,detail_type,detail_amount,detail_description\n";
+
+    private final JsonMapper jsonMapper;
+
+    @Inject
+    public TransactionExportFormatter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public Flux<String> toNdjson(Flux<Transactions> transactions) {
+        return transactions.map(txn -> {
+            try {
+                return jsonMapper.writeValueAsString(txn) + "\n";
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * One CSV row per detail, with the master columns repeated; a transaction without details still gets one row.
+     */
+    public Flux<String> toCsv(Flux<Transactions> transactions) {
+        return Flux.concat(Flux.just(CSV_HEADER), transactions.map(this::toCsvRows));
+    }
+
+    private String toCsvRows(Transactions txn) {
+        String master = csvRow(txn.txnId(), txn.amount(), txn.currency(), txn.status(), txn.timestamp(),
+                txn.cardType(), txn.cardLast4(), txn.acquirer(), txn.issuer());
+        if (txn.details() == null || txn.details().isEmpty()) {
+            return master + ",,,,\n";
+        }
+        StringBuilder rows = new StringBuilder();
+        for (Detail detail : txn.details()) {
+            rows.append(master).append(',')
+                    .append(csvRow(detail.detailId(), detail.type(), detail.amount(), detail.description()))
+                    .append('\n');
+        }
+        return rows.toString();
+    }
+
+    private static String csvRow(Object... values) {
+        StringJoiner row = new StringJoiner(",");
+        for (Object value : values) {
+            row.add(csvField(value));
+        }
+        return row.toString();
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
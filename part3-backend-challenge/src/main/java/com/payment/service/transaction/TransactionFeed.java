@@ -0,0 +1,169 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.Transactions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.sse.Event;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Live feed of created transactions per merchant, served as Server-Sent Events.
+ * <p>
+ * Each watched merchant has a multicast sink and a ring of its last {@code replay-size} events, so a client
+ * reconnecting with {@code Last-Event-ID} gets what it missed while the ring still holds it. Event ids are a
+ * per-merchant sequence local to this instance. Every subscriber has its own buffer of {@code subscriber-buffer}
+ * events that drops the oldest when the client does not keep up. Subscribers hold no thread while idle; a shared
+ * heartbeat keeps their connections from hitting the idle timeout.
+ * <p>
+ * Merchants nobody watches have no feed, and {@link #publish} does not build their events.
+ */
+@Singleton
+public class TransactionFeed {
+
+    static final String HEARTBEAT = "heartbeat";
+
+    private final Map<String, MerchantFeed> feeds = new ConcurrentHashMap<>();
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final long idleMillis;
+    private final Flux<Event<?>> heartbeats;
+    private final Counter dropped;
+
+    @Inject
+    public TransactionFeed(MeterRegistry meterRegistry,
+                           @Value("${transactions.feed.replay-size:256}") int replaySize,
+                           @Value("${transactions.feed.subscriber-buffer:1024}") int subscriberBuffer,
+                           @Value("${transactions.feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+                           @Value("${transactions.feed.idle-ttl:10m}") Duration idleTtl) {
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.idleMillis = idleTtl.toMillis();
+        this.heartbeats = Flux.interval(heartbeatInterval)
+                .<Event<?>>map(tick -> Event.of("").name(HEARTBEAT))
+                .share();
+        this.dropped = Counter.builder("transactions.feed.dropped")
+                .description("Feed events dropped because a subscriber fell behind")
+                .register(meterRegistry);
+        meterRegistry.gauge("transactions.feed.subscribers", feeds,
+                f -> f.values().stream().mapToInt(MerchantFeed::subscribers).sum());
+    }
+
+    /**
+     * Events for the merchant's transactions created from now on, preceded by the buffered ones after
+     * {@code lastEventId} when given.
+     */
+    public Flux<Event<?>> subscribe(String merchantId, Long lastEventId) {
+        Flux<Event<?>> events = Flux.<FeedEvent>create(emitter -> {
+                    MerchantFeed feed = feeds.compute(merchantId, (id, existing) -> {
+                        MerchantFeed f = existing == null ? new MerchantFeed(replaySize) : existing;
+                        f.attach();
+                        return f;
+                    });
+                    Disposable live = feed.subscribe(lastEventId, emitter::next);
+                    emitter.onDispose(() -> {
+                        live.dispose();
+                        feed.detach();
+                    });
+                })
+                .onBackpressureBuffer(subscriberBuffer, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> Event.of(event.transaction()).id(Long.toString(event.id())));
+        return Flux.merge(events, heartbeats);
+    }
+
+    /**
+     * Sends a created transaction to the merchant's subscribers. {@code transaction} is only called when the
+     * merchant has a feed.
+     */
+    public void publish(String merchantId, Supplier<Transactions> transaction) {
+        MerchantFeed feed = feeds.get(merchantId);
+        if (feed != null) {
+            feed.publish(transaction.get());
+        }
+    }
+
+    /**
+     * Drops the feeds of merchants that have had no subscriber for {@code idle-ttl}.
+     */
+    @Scheduled(fixedDelay = "${transactions.feed.idle-ttl:10m}")
+    void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        for (String merchantId : feeds.keySet()) {
+            feeds.computeIfPresent(merchantId, (id, feed) -> feed.idleSince(cutoff) ? null : feed);
+        }
+    }
+
+    private record FeedEvent(long id, Transactions transaction) {
+    }
+
+    private static final class MerchantFeed {
+        private final Sinks.Many<FeedEvent> sink = Sinks.many().multicast().directBestEffort();
+        private final ArrayDeque<FeedEvent> recent;
+        private final int replaySize;
+        private long sequence;
+        private int subscribers;
+        private long lastDetached = System.currentTimeMillis();
+
+        MerchantFeed(int replaySize) {
+            this.replaySize = replaySize;
+            this.recent = new ArrayDeque<>(replaySize);
+        }
+
+        synchronized void publish(Transactions transaction) {
+            FeedEvent event = new FeedEvent(++sequence, transaction);
+            if (recent.size() == replaySize) {
+                recent.removeFirst();
+            }
+            recent.addLast(event);
+            sink.tryEmitNext(event);
+        }
+
+        /**
+         * Replays and subscribes under the same lock as {@link #publish}, so no event falls between the two.
+         */
+        synchronized Disposable subscribe(Long lastEventId, Consumer<FeedEvent> consumer) {
+            if (lastEventId != null) {
+                List<FeedEvent> missed = new ArrayList<>();
+                for (FeedEvent event : recent) {
+                    if (event.id() > lastEventId) {
+                        missed.add(event);
+                    }
+                }
+                missed.forEach(consumer);
+            }
+            return sink.asFlux().subscribe(consumer);
+        }
+
+        synchronized void attach() {
+            subscribers++;
+        }
+
+        synchronized void detach() {
+            subscribers--;
+            lastDetached = System.currentTimeMillis();
+        }
+
+        synchronized int subscribers() {
+            return subscribers;
+        }
+
+        synchronized boolean idleSince(long cutoff) {
+            return subscribers == 0 && lastDetached < cutoff;
+        }
+    }
+}
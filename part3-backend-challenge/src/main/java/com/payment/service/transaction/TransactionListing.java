@@ -0,0 +1,37 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.TransactionResponse;
+
+/**
+ * A listing page together with its entity tag, a digest of the serialized JSON response, and the serialized size.
+ */
+public record TransactionListing(TransactionResponse response, String etag, int serializedSize) {
+
+    /**
+     * The tag of this listing when sent in another encoding, e.g. {@code "abc-cbor"} for {@code variant} "cbor". The
+     * same content has different bytes per encoding, so each gets its own tag; {@code null} is the JSON tag.
+     */
+    public String etag(String variant) {
+        return variant == null ? etag : etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header value names this listing's tag for {@code variant}.
+     */
+    public boolean matches(String ifNoneMatch, String variant) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = etag(variant);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package com.payment.service.transaction;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.payment.dto.transaction.TransactionFields;
+import com.payment.dto.transaction.TransactionListRequest;
+import com.payment.dto.transaction.TransactionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of listing pages in front of {@link TransactionServiceImpl#getTransactions}.
+ * <p>
+ * Caffeine (W-TinyLFU) bounds the cache by the serialized size of the pages. Ranges ending before today can only
+ * change through back-dated writes and are kept for {@code historical-ttl}; ranges that include today for
+ * {@code live-ttl}. Concurrent requests for the same page share one load. Every key carries the merchant's write
+ * generation, so {@link #invalidate} makes all of a merchant's pages unreachable in O(1); Caffeine evicts them.
+ */
+@Singleton
+public class TransactionListingCache {
+
+    private final JsonMapper jsonMapper;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final AsyncCache<ListingKey, TransactionListing> cache;
+
+    @Inject
+    public TransactionListingCache(JsonMapper jsonMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${transactions.listing-cache.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+                                   @Value("${transactions.listing-cache.live-ttl:5s}") Duration liveTtl,
+                                   @Value("${transactions.listing-cache.historical-ttl:1h}") Duration historicalTtl) {
+        this.jsonMapper = jsonMapper;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((ListingKey key, TransactionListing listing) -> listing.serializedSize())
+                .expireAfter(new Expiry<ListingKey, TransactionListing>() {
+                    @Override
+                    public long expireAfterCreate(ListingKey key, TransactionListing listing, long currentTime) {
+                        boolean historical = key.endDate().isBefore(LocalDate.now(ZoneOffset.UTC));
+                        return (historical ? historicalTtl : liveTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ListingKey key, TransactionListing listing, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, listing, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ListingKey key, TransactionListing listing, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .<ListingKey, TransactionListing>buildAsync(), "transactions.listing");
+    }
+
+    /**
+     * Returns the cached page for the request, loading it with {@code loader} on a miss.
+     */
+    public Mono<TransactionListing> get(TransactionListRequest request, Supplier<Mono<TransactionResponse>> loader) {
+        ListingKey key = new ListingKey(request.getMerchantId(), generations.getOrDefault(request.getMerchantId(), 0L),
+                request.getPage(), request.getSize(), request.getStartDate(), request.getEndDate(), request.getStatus(),
+                request.getCursor(), request.isWithTotals(), request.isWithDetails(), request.getFields());
+        // suppressCancel: the load is shared, one client disconnecting must not cancel it for the others.
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.get().map(this::toListing).toFuture()), true);
+    }
+
+    /**
+     * Drops every cached page of the merchant.
+     */
+    public void invalidate(String merchantId) {
+        if (merchantId != null) {
+            generations.merge(merchantId, 1L, Long::sum);
+        }
+    }
+
+    private TransactionListing toListing(TransactionResponse response) {
+        byte[] body;
+        try {
+            body = jsonMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new TransactionListing(response, etag(body), body.length);
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ListingKey(String merchantId, long generation, int page, int size, LocalDate startDate,
+                              LocalDate endDate, String status, String cursor, boolean withTotals,
+                              boolean withDetails, TransactionFields fields) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.Detail;
+import com.payment.dto.transaction.StatusSummary;
+import com.payment.dto.transaction.Summary;
+import com.payment.dto.transaction.TransactionFields;
+import com.payment.dto.transaction.TransactionPageRow;
+import com.payment.dto.transaction.TransactionRow;
+import com.payment.dto.transaction.Transactions;
+import com.payment.entity.TransactionDetail;
+import com.payment.entity.TransactionMaster;
+import com.payment.service.member.MemberDirectory;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns transaction rows into the response DTOs. Kept apart from {@link TransactionServiceImpl} so the
+ * CPU-bound part of a listing can be benchmarked without a database (see {@code src/jmh/java}).
+ */
+@Singleton
+public class TransactionMapper {
+
+    private final MemberDirectory memberDirectory;
+
+    @Inject
+    public TransactionMapper(MemberDirectory memberDirectory) {
+        this.memberDirectory = memberDirectory;
+    }
+
+    /**
+     * Maps every row with its details, keeping the rows' order. {@code details} must be ordered by master id,
+     * as {@code findDetailsByMasterTxnIds} returns them: each row binary-searches the start of its run of details,
+     * so neither a map nor a sorted copy of the rows is built.
+     */
+    public List<Transactions> toTransactions(List<TransactionRow> rows, List<TransactionDetail> details,
+                                             TransactionFields fields) {
+        List<Transactions> mapped = new ArrayList<>(rows.size());
+        for (TransactionRow row : rows) {
+            long txnId = row.txnId();
+            int first = firstDetailOf(details, txnId);
+            int next = first;
+            while (next < details.size() && details.get(next).getMasterTxnId() == txnId) {
+                next++;
+            }
+            List<Detail> forMaster = first == next ? Collections.emptyList() : new ArrayList<>(next - first);
+            for (int d = first; d < next; d++) {
+                forMaster.add(mapToDetail(details.get(d)));
+            }
+            mapped.add(mapToTransaction(row, forMaster, fields));
+        }
+        return mapped;
+    }
+
+    public Summary calculateSummary(List<StatusSummary> summaries) {
+        long totalCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<String, Long> byStatus = new HashMap<>();
+        String currency = "USD";
+
+        for (StatusSummary s : summaries) {
+            totalCount += s.txnCount();
+            if (s.totalAmount() != null) {
+                totalAmount = totalAmount.add(s.totalAmount());
+            }
+            byStatus.put(s.status(), s.txnCount());
+        }
+
+        return new Summary(totalCount, totalAmount, currency, byStatus);
+    }
+
+    public Transactions mapToTransaction(TransactionMaster tm, List<Detail> details) {
+        return new Transactions(
+                tm.getTxnId(),
+                tm.getAmount(),
+                tm.getCurrency(),
+                tm.getStatus(),
+                tm.getCreatedAt(),
+                tm.getCardType(),
+                tm.getCardLast4(),
+                memberDirectory.nameOf(tm.getGpAcquirerId()),
+                memberDirectory.nameOf(tm.getGpIssuerId()),
+                details
+        );
+    }
+
+    /**
+     * Maps a listing row straight into the response record, leaving out the fields not in {@code fields}.
+     */
+    public Transactions mapToTransaction(TransactionRow row, List<Detail> details, TransactionFields fields) {
+        return new Transactions(
+                row.txnId(),
+                fields.includes(TransactionFields.Field.AMOUNT) ? row.amount() : null,
+                fields.includes(TransactionFields.Field.CURRENCY) ? row.currency() : null,
+                fields.includes(TransactionFields.Field.STATUS) ? row.status() : null,
+                fields.includes(TransactionFields.Field.TIMESTAMP) ? row.createdAt() : null,
+                fields.includes(TransactionFields.Field.CARD_TYPE) ? row.cardType() : null,
+                fields.includes(TransactionFields.Field.CARD_LAST4) ? row.cardLast4() : null,
+                fields.includes(TransactionFields.Field.ACQUIRER) ? memberDirectory.nameOf(row.gpAcquirerId()) : null,
+                fields.includes(TransactionFields.Field.ISSUER) ? memberDirectory.nameOf(row.gpIssuerId()) : null,
+                fields.includes(TransactionFields.Field.DETAILS) ? details : null
+        );
+    }
+
+    public TransactionRow mapToRow(TransactionPageRow row) {
+        return new TransactionRow(
+                row.txnId(),
+                row.gpAcquirerId(),
+                row.gpIssuerId(),
+                row.amount(),
+                row.currency(),
+                row.status(),
+                row.cardType(),
+                row.cardLast4(),
+                row.createdAt(),
+                row.txnDate()
+        );
+    }
+
+    /**
+     * Index of the first detail whose master id is not below {@code txnId}.
+     */
+    private static int firstDetailOf(List<TransactionDetail> details, long txnId) {
+        int low = 0;
+        int high = details.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (details.get(mid).getMasterTxnId() < txnId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public Detail mapToDetail(TransactionDetail td) {
+        return new Detail(
+                td.getTxnDetailId(),
+                td.getDetailType(),
+                td.getAmount(),
+                td.getDescription()
+        );
+    }
+}
@@ -1,15 +1,31 @@
 package com.payment.service.transaction;
 
+import com.payment.dto.transaction.BatchTransactionRequest;
+import com.payment.dto.transaction.BatchTransactionResponse;
 import com.payment.dto.transaction.CreateTransactionResponse;
+import com.payment.dto.transaction.StatusUpdateRequest;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.TransactionListRequest;
 import com.payment.dto.transaction.TransactionRequest;
 import com.payment.dto.transaction.TransactionResponse;
+import com.payment.dto.transaction.Transactions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDate;
-
 public interface TransactionService {
 
-    Mono<TransactionResponse> getTransactions(String merchantId, int page, int size, LocalDate startDate, LocalDate endDate, String status);
+    Mono<TransactionResponse> getTransactions(TransactionListRequest request);
+
+    /**
+     * {@link #getTransactions} served through the listing cache, with the page's entity tag.
+     */
+    Mono<TransactionListing> getTransactionListing(TransactionListRequest request);
+
+    Flux<Transactions> streamTransactions(TransactionListRequest request);
 
     Mono<CreateTransactionResponse> createTransaction(TransactionRequest request);
+
+    Mono<BatchTransactionResponse> createTransactions(String merchantId, BatchTransactionRequest request);
+
+    Mono<StatusUpdateResponse> updateStatuses(String merchantId, StatusUpdateRequest request);
 }
@@ -4,145 +4,245 @@ import com.payment.dto.Pagination;
 import com.payment.dto.transaction.*;
 import com.payment.entity.TransactionDetail;
 import com.payment.entity.TransactionMaster;
-import com.payment.repository.TransactionDetailRepository;
+import com.payment.entity.TransactionStatus;
+import com.payment.repository.QueryMetrics;
+import com.payment.repository.ReadReplicaRouter;
+import com.payment.repository.TransactionBatchRepository;
 import com.payment.repository.TransactionRepository;
+import com.payment.service.settlement.SettlementService;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Singleton
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionServiceImpl.class);
+
+    private static final Set<String> DETAIL_TYPES = Set.of("fee", "tax", "adjustment", "refund", "chargeback");
+
     private final TransactionRepository transactionRepository;
-    private final TransactionDetailRepository transactionDetailRepository;
+    private final ReadReplicaRouter readRouter;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final TransactionMapper transactionMapper;
+    private final QueryMetrics queryMetrics;
+    private final TransactionListingCache listingCache;
+    private final TransactionWriteCoalescer writeCoalescer;
+    private final TodayCounters todayCounters;
+    private final TransactionFeed transactionFeed;
+    private final TransactionStatusProcessor statusProcessor;
+    private final SettlementService settlementService;
+    private final int exportChunkSize;
+    private final int batchChunkSize;
 
     @Inject
     public TransactionServiceImpl(TransactionRepository transactionRepository,
-                                  TransactionDetailRepository transactionDetailRepository) {
+                                  ReadReplicaRouter readRouter,
+                                  TransactionBatchRepository transactionBatchRepository,
+                                  TransactionMapper transactionMapper,
+                                  QueryMetrics queryMetrics,
+                                  TransactionListingCache listingCache,
+                                  @Nullable TransactionWriteCoalescer writeCoalescer,
+                                  @Nullable TodayCounters todayCounters,
+                                  TransactionFeed transactionFeed,
+                                  TransactionStatusProcessor statusProcessor,
+                                  SettlementService settlementService,
+                                  @Value("${transactions.export.chunk-size:500}") int exportChunkSize,
+                                  @Value("${transactions.batch.chunk-size:1000}") int batchChunkSize) {
         this.transactionRepository = transactionRepository;
-        this.transactionDetailRepository = transactionDetailRepository;
+        this.readRouter = readRouter;
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.transactionMapper = transactionMapper;
+        this.queryMetrics = queryMetrics;
+        this.listingCache = listingCache;
+        this.writeCoalescer = writeCoalescer;
+        this.todayCounters = todayCounters;
+        this.transactionFeed = transactionFeed;
+        this.statusProcessor = statusProcessor;
+        this.settlementService = settlementService;
+        this.exportChunkSize = exportChunkSize;
+        this.batchChunkSize = batchChunkSize;
     }
 
     @Override
-    public Mono<TransactionResponse> getTransactions(String merchantId, int page, int size, LocalDate startDate, LocalDate endDate, String status) {
+    public Mono<TransactionResponse> getTransactions(TransactionListRequest request) {
+        String merchantId = request.getMerchantId();
+        int page = request.getPage();
+        int size = request.getSize();
+        String status = request.getStatus();
+        TransactionFields fields = request.getFields();
+        boolean withDetails = request.isWithDetails() && fields.includes(TransactionFields.Field.DETAILS);
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
         Instant start = startDate.atStartOfDay(ZoneOffset.UTC).toInstant();
         Instant end = endDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
-        long offset = (long) page * size;
-
-        Mono<List<TransactionMaster>> txnMono = transactionRepository.findByMerchantIdAndDateRange(merchantId,
-                        start, end, status, size, offset)
-                .collectList();
+        TransactionCursor cursor = request.getCursor() == null ? null : TransactionCursor.decode(request.getCursor());
+        TransactionRepository reads = readRouter.transactions(merchantId);
+        Optional<List<StatusSummary>> todaySummaries = request.isWithTotals() && todayCounters != null && startDate.equals(endDate)
+                ? todayCounters.summaries(merchantId, startDate, status)
+                : Optional.empty();
 
-        Mono<Long> countMono = transactionRepository.countByMerchantIdAndDateRange(merchantId, start, end, status);
-
-        Mono<List<StatusSummary>> summaryMono = transactionRepository.getStatusSummary(merchantId, start, end, status)
-                .collectList();
+        // Offset pages with totals come back from one combined statement, unless today's totals are in memory.
+        if (cursor == null && request.isWithTotals() && todaySummaries.isEmpty()) {
+            return queryMetrics.timed("findPageWithTotals",
+                            reads.findPageWithTotals(merchantId, startDate, endDate, status, size + 1, (long) page * size))
+                    .collectList()
+                    .flatMap(rows -> {
+                        List<TransactionRow> fetched = new ArrayList<>(rows.size());
+                        List<StatusSummary> summaries = new ArrayList<>();
+                        for (TransactionPageRow row : rows) {
+                            if (TransactionPageRow.SUMMARY.equals(row.rowType())) {
+                                summaries.add(new StatusSummary(row.status(), row.txnCount(), row.totalAmount()));
+                            } else {
+                                fetched.add(transactionMapper.mapToRow(row));
+                            }
+                        }
+                        return buildPage(merchantId, start, end, page, size, fields, withDetails, fetched, summaries);
+                    });
+        }
 
-        return Mono.zip(txnMono, countMono, summaryMono)
-                .flatMap(tuple -> {
-                    List<TransactionMaster> masters = tuple.getT1();
-                    Long totalElements = tuple.getT2();
-                    List<StatusSummary> summaries = tuple.getT3();
+        // One extra row tells us whether another page exists without relying on the count.
+        Flux<TransactionRow> pageFlux = cursor == null
+                ? queryMetrics.timed("findByMerchantIdAndDateRange",
+                        reads.findByMerchantIdAndDateRange(merchantId, startDate, endDate, status, size + 1, (long) page * size))
+                : queryMetrics.timed("findByMerchantIdAndDateRangeAfter",
+                        reads.findByMerchantIdAndDateRangeAfter(merchantId, startDate, endDate, status,
+                                cursor.createdAt(), cursor.txnId(), size + 1));
 
-                    if (masters.isEmpty()) {
-                        return Mono.just(buildEmptyResponse(merchantId, start, end, page, size, summaries));
+        // Queries run one after another so a listing never holds more than one pooled connection.
+        return pageFlux.collectList()
+                .flatMap(fetched -> {
+                    if (!request.isWithTotals()) {
+                        return buildPage(merchantId, start, end, page, size, fields, withDetails, fetched, null);
                     }
-
-                    List<Long> masterIds = masters.stream()
-                            .map(TransactionMaster::getTxnId)
-                            .toList();
-
-                    return transactionDetailRepository.findDetailsByMasterTxnIds(masterIds)
+                    if (todaySummaries.isPresent()) {
+                        return buildPage(merchantId, start, end, page, size, fields, withDetails, fetched, todaySummaries.get());
+                    }
+                    return queryMetrics.timed("getStatusSummary",
+                                    reads.getStatusSummary(merchantId, startDate, endDate, status))
                             .collectList()
-                            .map(details -> {
-                                Map<Long, List<Detail>> detailsMap = details.stream()
-                                        .collect(Collectors.groupingBy(
-                                                TransactionDetail::getMasterTxnId,
-                                                Collectors.mapping(this::mapToDetail, Collectors.toList())
-                                        ));
-
-                                List<Transactions> txn = masters.stream()
-                                        .map(tm -> mapToTransaction(tm, detailsMap.getOrDefault(tm.getTxnId(), Collections.emptyList())))
-                                        .collect(Collectors.toList());
-
-                                return buildResponse(merchantId, start, end, page, size, totalElements, txn, summaries);
-                            });
+                            .flatMap(summaries -> buildPage(merchantId, start, end, page, size, fields, withDetails, fetched, summaries));
                 });
     }
 
-    private TransactionResponse buildResponse(String merchantId, Instant start, Instant end, int page, int size,
-                                              Long totalElements, List<Transactions> txn, List<StatusSummary> summaries) {
-        TransactionResponse response = new TransactionResponse();
-        response.setMerchantId(merchantId);
-        response.setDateRange(new TransactionResponse.DateRange(start, end));
+    @Override
+    public Mono<TransactionListing> getTransactionListing(TransactionListRequest request) {
+        return listingCache.get(request, () -> getTransactions(request));
+    }
 
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        response.setPagination(new Pagination(page, size, totalPages, totalElements));
+    private Mono<TransactionResponse> buildPage(String merchantId, Instant start, Instant end, int page, int size,
+                                                TransactionFields fields, boolean withDetails, List<TransactionRow> fetched,
+                                                List<StatusSummary> summaries) {
+        Long totalElements = summaries == null
+                ? null
+                : summaries.stream().mapToLong(StatusSummary::txnCount).sum();
 
-        response.setTransactions(txn);
-        response.setSummary(calculateSummary(summaries));
-        return response;
+        if (fetched.isEmpty()) {
+            return Mono.just(buildResponse(merchantId, start, end, page, size, totalElements, false, null,
+                    Collections.emptyList(), summaries));
+        }
+
+        boolean hasNext = fetched.size() > size;
+        List<TransactionRow> rows = hasNext ? fetched.subList(0, size) : fetched;
+        TransactionRow last = rows.get(rows.size() - 1);
+        String nextCursor = hasNext
+                ? new TransactionCursor(last.createdAt(), last.txnId()).encode()
+                : null;
+
+        Mono<List<Transactions>> transactions = withDetails
+                ? attachDetails(merchantId, rows, fields)
+                : Mono.just(rows.stream().map(row -> transactionMapper.mapToTransaction(row, null, fields)).toList());
+        return transactions
+                .map(txn -> buildResponse(merchantId, start, end, page, size, totalElements, hasNext, nextCursor,
+                        txn, summaries));
     }
 
-    private TransactionResponse buildEmptyResponse(String merchantId, Instant start, Instant end, int page, int size, List<StatusSummary> summaries) {
-        TransactionResponse response = new TransactionResponse();
-        response.setMerchantId(merchantId);
-        response.setDateRange(new TransactionResponse.DateRange(start, end));
-        response.setPagination(new Pagination(page, size, 0, 0L));
-        response.setTransactions(Collections.emptyList());
-        response.setSummary(calculateSummary(summaries));
-        return response;
+    @Override
+    public Flux<Transactions> streamTransactions(TransactionListRequest request) {
+        String merchantId = request.getMerchantId();
+        String status = request.getStatus();
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        TransactionRepository reads = readRouter.transactions(merchantId);
+
+        // Walks the range chunk by chunk with the keyset query; the next chunk is only fetched once the
+        // subscriber has drained the previous one, so at most one chunk of masters and details is held.
+        return fetchChunk(merchantId, queryMetrics.timed("findByMerchantIdAndDateRange",
+                reads.findByMerchantIdAndDateRange(merchantId, start, end, status, exportChunkSize, 0)))
+                .expand(chunk -> {
+                    if (chunk.size() < exportChunkSize) {
+                        return Mono.empty();
+                    }
+                    Transactions last = chunk.get(chunk.size() - 1);
+                    return fetchChunk(merchantId, queryMetrics.timed("findByMerchantIdAndDateRangeAfter",
+                            reads.findByMerchantIdAndDateRangeAfter(merchantId, start, end, status,
+                                    last.timestamp(), last.txnId(), exportChunkSize)));
+                })
+                .concatMapIterable(Function.identity(), 1);
     }
 
-    private Summary calculateSummary(List<StatusSummary> summaries) {
-        long totalCount = 0;
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        Map<String, Long> byStatus = new HashMap<>();
-        String currency = "USD";
+    private Mono<List<Transactions>> fetchChunk(String merchantId, Flux<TransactionRow> rows) {
+        return rows.collectList().flatMap(chunk -> attachDetails(merchantId, chunk, TransactionFields.ALL));
+    }
+
+    private Mono<List<Transactions>> attachDetails(String merchantId, List<TransactionRow> rows, TransactionFields fields) {
+        if (rows.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
 
-        for (StatusSummary s : summaries) {
-            totalCount += s.txnCount();
-            if (s.totalAmount() != null) {
-                totalAmount = totalAmount.add(s.totalAmount());
+        Long[] masterIds = new Long[rows.size()];
+        LocalDate firstDay = LocalDate.MAX;
+        LocalDate lastDay = LocalDate.MIN;
+        for (int i = 0; i < masterIds.length; i++) {
+            TransactionRow row = rows.get(i);
+            masterIds[i] = row.txnId();
+            LocalDate day = row.txnDate();
+            if (day.isBefore(firstDay)) {
+                firstDay = day;
+            }
+            if (day.isAfter(lastDay)) {
+                lastDay = day;
             }
-            byStatus.put(s.status(), s.txnCount());
         }
 
-        return new Summary(totalCount, totalAmount, currency, byStatus);
+        // Details share their master's txn_date, so the masters' days bound the partitions to read.
+        return queryMetrics.timed("findDetailsByMasterTxnIds",
+                        readRouter.transactionDetails(merchantId).findDetailsByMasterTxnIds(masterIds, firstDay, lastDay))
+                .collectList()
+                .map(details -> transactionMapper.toTransactions(rows, details, fields));
     }
 
-    private Transactions mapToTransaction(TransactionMaster tm, List<Detail> details) {
-        return new Transactions(
-                tm.getTxnId(),
-                tm.getAmount(),
-                tm.getCurrency(),
-                tm.getStatus(),
-                tm.getCreatedAt(),
-                tm.getCardType(),
-                tm.getCardLast4(),
-                null, // TODO: map acquirer
-                null,
-                details
-        );
-    }
+    private TransactionResponse buildResponse(String merchantId, Instant start, Instant end, int page, int size,
+                                              Long totalElements, boolean hasNext, String nextCursor,
+                                              List<Transactions> txn, List<StatusSummary> summaries) {
+        TransactionResponse response = new TransactionResponse();
+        response.setMerchantId(merchantId);
+        response.setDateRange(new TransactionResponse.DateRange(start, end));
+
+        int totalPages = totalElements == null ? 0 : (int) Math.ceil((double) totalElements / size);
+        response.setPagination(new Pagination(page, size, totalPages, totalElements, hasNext, nextCursor));
 
-    private Detail mapToDetail(TransactionDetail td) {
-        return new Detail(
-                td.getTxnDetailId(),
-                td.getDetailType(),
-                td.getAmount(),
-                td.getDescription()
-        );
+        response.setTransactions(txn);
+        response.setSummary(summaries == null ? null : transactionMapper.calculateSummary(summaries));
+        return response;
     }
 
     @Override
@@ -164,18 +264,207 @@ public class TransactionServiceImpl implements TransactionService {
             tm.setLocalTxnDateTime(now);
         }
         if (tm.getTxnDate() == null) {
-            tm.setTxnDate(new java.sql.Date(now.toEpochMilli()));
+            tm.setTxnDate(java.sql.Date.valueOf(LocalDate.ofInstant(now, ZoneOffset.UTC)));
+        }
+        tm.setStatus(tm.getStatus() == null ? TransactionStatus.PENDING.code() : TransactionStatus.of(tm.getStatus()).code());
+        if (tm.getAmount() == null) {
+            throw new IllegalArgumentException("amount is required");
+        }
+        if (tm.getCurrency() == null) {
+            tm.setCurrency("USD");
+        }
+
+        Mono<CreateTransactionResponse> created;
+        if (writeCoalescer != null) {
+            created = writeCoalescer.submit(tm)
+                    .map(txnId -> {
+                        CreateTransactionResponse response = new CreateTransactionResponse();
+                        response.setMerchantId(tm.getMerchantId());
+                        response.setTransactionId(txnId);
+                        return response;
+                    })
+                    .doOnSuccess(response -> onCreated(tm));
+        } else {
+            created = transactionRepository.save(tm)
+                    .doOnNext(this::onCreated)
+                    .map(saved -> {
+                        CreateTransactionResponse response = new CreateTransactionResponse();
+                        response.setMerchantId(saved.getMerchantId());
+                        response.setTransactionId(saved.getTxnId());
+                        return response;
+                    });
         }
-        if (tm.getStatus() == null) {
-            tm.setStatus("PENDING");
+        // A back-dated create lands in a day that may already be settled.
+        return created.flatMap(response -> settlementService.markChanged(List.of(tm.getTxnDate().toLocalDate()))
+                .thenReturn(response));
+    }
+
+    private void onCreated(TransactionMaster tm) {
+        readRouter.recordWrite(tm.getMerchantId());
+        listingCache.invalidate(tm.getMerchantId());
+        if (todayCounters != null) {
+            todayCounters.record(tm);
         }
+        transactionFeed.publish(tm.getMerchantId(), () -> transactionMapper.mapToTransaction(tm, Collections.emptyList()));
+    }
 
-        return transactionRepository.save(tm)
-                .map(saved -> {
-                    CreateTransactionResponse response = new CreateTransactionResponse();
-                    response.setMerchantId(saved.getMerchantId());
-                    response.setTransactionId(saved.getTxnId());
-                    return response;
+    @Override
+    public Mono<BatchTransactionResponse> createTransactions(String merchantId, BatchTransactionRequest request) {
+        return Mono.defer(() -> {
+                    Set<LocalDate> createdDays = new HashSet<>();
+                    return Mono.fromCallable(() -> insertBatch(merchantId, request.transactions(), createdDays))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(response -> settlementService.markChanged(createdDays).thenReturn(response));
+                })
+                .doOnSuccess(response -> {
+                    if (response.created() > 0) {
+                        readRouter.recordWrite(merchantId);
+                        listingCache.invalidate(merchantId);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<StatusUpdateResponse> updateStatuses(String merchantId, StatusUpdateRequest request) {
+        return statusProcessor.process(merchantId, request.transactions())
+                .doOnSuccess(response -> {
+                    if (response.updated() > 0) {
+                        readRouter.recordWrite(merchantId);
+                        listingCache.invalidate(merchantId);
+                    }
                 });
     }
+
+    private BatchTransactionResponse insertBatch(String merchantId, List<BatchTransactionItem> items,
+                                                 Set<LocalDate> createdDays) {
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<Integer> indexes = new ArrayList<>(batchChunkSize);
+        List<TransactionMaster> masters = new ArrayList<>(batchChunkSize);
+        List<List<TransactionDetail>> details = new ArrayList<>(batchChunkSize);
+        Instant now = Instant.now();
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchTransactionItem item = items.get(i);
+            String error = validate(item);
+            if (error != null) {
+                results[i] = new BatchItemResult(i, null, 0, BatchItemResult.REJECTED, error);
+                continue;
+            }
+            indexes.add(i);
+            masters.add(toMaster(merchantId, item, now));
+            details.add(toDetails(item, now));
+            if (masters.size() == batchChunkSize) {
+                writeChunk(indexes, masters, details, results, createdDays);
+            }
+        }
+        if (!masters.isEmpty()) {
+            writeChunk(indexes, masters, details, results, createdDays);
+        }
+
+        int created = 0;
+        int rejected = 0;
+        for (BatchItemResult result : results) {
+            if (BatchItemResult.CREATED.equals(result.status())) {
+                created++;
+            } else if (BatchItemResult.REJECTED.equals(result.status())) {
+                rejected++;
+            }
+        }
+        return new BatchTransactionResponse(merchantId, created, rejected, items.size() - created - rejected,
+                Arrays.asList(results));
+    }
+
+    /**
+     * Writes one chunk in its own database transaction. A failing chunk is reported item by item and does
+     * not stop the chunks after it.
+     */
+    private void writeChunk(List<Integer> indexes, List<TransactionMaster> masters, List<List<TransactionDetail>> details,
+                            BatchItemResult[] results, Set<LocalDate> createdDays) {
+        try {
+            transactionBatchRepository.insert(masters, details);
+            masters.forEach(tm -> createdDays.add(tm.getTxnDate().toLocalDate()));
+            if (todayCounters != null) {
+                masters.forEach(todayCounters::record);
+            }
+            for (int i = 0; i < masters.size(); i++) {
+                TransactionMaster tm = masters.get(i);
+                List<TransactionDetail> tds = details.get(i);
+                results[indexes.get(i)] = new BatchItemResult(indexes.get(i), tm.getTxnId(),
+                        tds.size(), BatchItemResult.CREATED, null);
+                transactionFeed.publish(tm.getMerchantId(),
+                        () -> transactionMapper.mapToTransaction(tm, tds.stream().map(transactionMapper::mapToDetail).toList()));
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Failed to insert a chunk of {} transactions", masters.size(), e);
+            for (int i = 0; i < masters.size(); i++) {
+                results[indexes.get(i)] = new BatchItemResult(indexes.get(i), null, 0, BatchItemResult.FAILED,
+                        e.getMessage());
+            }
+        }
+        indexes.clear();
+        masters.clear();
+        details.clear();
+    }
+
+    private String validate(BatchTransactionItem item) {
+        if (item == null) {
+            return "Transaction is required";
+        }
+        if (item.amount() == null) {
+            return "amount is required";
+        }
+        if (item.status() != null && TransactionStatus.find(item.status()).isEmpty()) {
+            return "Unknown status: " + item.status();
+        }
+        if (item.details() != null) {
+            for (BatchTransactionDetail detail : item.details()) {
+                if (detail == null || detail.amount() == null) {
+                    return "Detail amount is required";
+                }
+                if (detail.detailType() == null || !DETAIL_TYPES.contains(detail.detailType().toLowerCase())) {
+                    return "Unknown detail type: " + detail.detailType();
+                }
+            }
+        }
+        return null;
+    }
+
+    private TransactionMaster toMaster(String merchantId, BatchTransactionItem item, Instant now) {
+        Instant localTxnDateTime = item.localTxnDateTime() == null ? now : item.localTxnDateTime();
+        TransactionMaster tm = new TransactionMaster();
+        tm.setMerchantId(merchantId);
+        tm.setGpAcquirerId(item.gpAcquirerId());
+        tm.setGpIssuerId(item.gpIssuerId());
+        tm.setTxnDate(java.sql.Date.valueOf(item.txnDate() == null
+                ? localTxnDateTime.atZone(ZoneOffset.UTC).toLocalDate()
+                : item.txnDate()));
+        tm.setLocalTxnDateTime(localTxnDateTime);
+        tm.setAmount(item.amount());
+        tm.setCurrency(item.currency() == null ? "USD" : item.currency());
+        tm.setStatus(item.status() == null ? TransactionStatus.PENDING.code() : TransactionStatus.of(item.status()).code());
+        tm.setCardType(item.cardType());
+        tm.setCardLast4(item.cardLast4());
+        tm.setAuthCode(item.authCode());
+        tm.setResponseCode(item.responseCode());
+        tm.setCreatedAt(now);
+        return tm;
+    }
+
+    private List<TransactionDetail> toDetails(BatchTransactionItem item, Instant now) {
+        if (item.details() == null || item.details().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<TransactionDetail> details = new ArrayList<>(item.details().size());
+        for (BatchTransactionDetail detail : item.details()) {
+            TransactionDetail td = new TransactionDetail();
+            td.setDetailType(detail.detailType().toLowerCase());
+            td.setAmount(detail.amount());
+            td.setCurrency(detail.currency() == null ? "USD" : detail.currency());
+            td.setDescription(detail.description());
+            td.setLocalTxnDateTime(detail.localTxnDateTime() == null ? now : detail.localTxnDateTime());
+            td.setCreatedAt(now);
+            details.add(td);
+        }
+        return details;
+    }
 }
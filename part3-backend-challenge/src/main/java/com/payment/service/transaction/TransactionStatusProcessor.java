@@ -0,0 +1,226 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.StatusChange;
+import com.payment.dto.transaction.StatusUpdateItem;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.StatusUpdateResult;
+import com.payment.entity.TransactionStatus;
+import com.payment.repository.TransactionStatusRepository;
+import com.payment.service.settlement.SettlementService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies status transitions (e.g. {@code pending} to {@code completed} or {@code failed}) to many transactions.
+ * <p>
+ * Valid items are split into chunks of {@code transactions.status-batch.chunk-size}; chunks run concurrently on the
+ * bounded {@code status-batch} executor, each as one set-based UPDATE in its own database transaction. A chunk that
+ * fails is reported item by item and recorded in {@code operators.transaction_status_failures}; the other chunks
+ * still commit. Workers share nothing but disjoint slots of the result array, {@link LongAdder} totals and the
+ * concurrent set of changed days, whose settlements are marked for recomputation once all chunks are done.
+ */
+@Singleton
+public class TransactionStatusProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionStatusProcessor.class);
+
+    private final TransactionStatusRepository statusRepository;
+    private final SettlementService settlementService;
+    private final TodayCounters todayCounters;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler scheduler;
+    private final int chunkSize;
+    private final int parallelism;
+
+    @Inject
+    public TransactionStatusProcessor(TransactionStatusRepository statusRepository,
+                                      SettlementService settlementService,
+                                      @Nullable TodayCounters todayCounters,
+                                      MeterRegistry meterRegistry,
+                                      @Named("status-batch") ExecutorService executor,
+                                      @Value("${transactions.status-batch.chunk-size:500}") int chunkSize,
+                                      @Value("${micronaut.executors.status-batch.number-of-threads:4}") int parallelism) {
+        this.statusRepository = statusRepository;
+        this.settlementService = settlementService;
+        this.todayCounters = todayCounters;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Schedulers.fromExecutorService(executor, "status-batch");
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    public Mono<StatusUpdateResponse> process(String merchantId, List<StatusUpdateItem> items) {
+        StatusUpdateResult[] results = new StatusUpdateResult[items.size()];
+        Totals totals = new Totals();
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        Set<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            String error = validate(items.get(i), seen);
+            if (error != null) {
+                results[i] = new StatusUpdateResult(i, items.get(i) == null ? null : items.get(i).txnId(),
+                        null, StatusUpdateResult.REJECTED, error);
+                totals.rejected.increment();
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        return Flux.fromIterable(chunks)
+                .flatMap(indexes -> Mono.fromRunnable(() -> writeChunk(merchantId, items, indexes, results, totals))
+                        .subscribeOn(scheduler), parallelism)
+                .then(Mono.defer(() -> settlementService.markChanged(totals.days)))
+                .then(Mono.fromSupplier(() -> totals.toResponse(merchantId, results)));
+    }
+
+    private String validate(StatusUpdateItem item, Set<Long> seen) {
+        if (item == null || item.txnId() == null) {
+            return "txnId is required";
+        }
+        TransactionStatus target = TransactionStatus.find(item.status()).orElse(null);
+        if (target == null) {
+            return "Unknown status: " + item.status();
+        }
+        if (target.requiredFrom().isEmpty()) {
+            return "Transactions cannot be moved to " + target.code();
+        }
+        if (!seen.add(item.txnId())) {
+            return "Duplicate txnId: " + item.txnId();
+        }
+        return null;
+    }
+
+    private void writeChunk(String merchantId, List<StatusUpdateItem> items, List<Integer> indexes,
+                            StatusUpdateResult[] results, Totals totals) {
+        int size = indexes.size();
+        Long[] txnIds = new Long[size];
+        String[] targets = new String[size];
+        String[] sources = new String[size];
+        for (int i = 0; i < size; i++) {
+            StatusUpdateItem item = items.get(indexes.get(i));
+            TransactionStatus target = TransactionStatus.of(item.status());
+            txnIds[i] = item.txnId();
+            targets[i] = target.code();
+            sources[i] = target.requiredFrom().orElseThrow().code();
+        }
+
+        List<StatusChange> changes;
+        try {
+            changes = statusRepository.transition(merchantId, txnIds, targets, sources);
+        } catch (RuntimeException e) {
+            LOG.error("Status update of {} transactions for merchant {} failed", size, merchantId, e);
+            for (int i = 0; i < size; i++) {
+                results[indexes.get(i)] = new StatusUpdateResult(indexes.get(i), txnIds[i], targets[i],
+                        StatusUpdateResult.FAILED, e.getMessage());
+            }
+            totals.failed.add(size);
+            meterRegistry.counter("transactions.status.updates", "outcome", StatusUpdateResult.FAILED).increment(size);
+            try {
+                statusRepository.recordFailures(merchantId, txnIds, targets, e.getMessage());
+            } catch (RuntimeException recordError) {
+                LOG.error("Could not record {} failed status updates", size, recordError);
+            }
+            return;
+        }
+
+        Map<Long, StatusChange> applied = new HashMap<>(changes.size() * 2);
+        for (StatusChange change : changes) {
+            applied.put(change.txnId(), change);
+        }
+        int updated = 0;
+        for (int i = 0; i < size; i++) {
+            int index = indexes.get(i);
+            StatusChange change = applied.get(txnIds[i]);
+            if (change == null) {
+                results[index] = new StatusUpdateResult(index, txnIds[i], targets[i], StatusUpdateResult.CONFLICT,
+                        "Not found or not " + sources[i]);
+                continue;
+            }
+            results[index] = new StatusUpdateResult(index, txnIds[i], targets[i], StatusUpdateResult.UPDATED, null);
+            totals.add(TransactionStatus.of(targets[i]), change.amount());
+            totals.days.add(change.txnDate());
+            if (todayCounters != null) {
+                todayCounters.transition(merchantId, change.txnDate(), TransactionStatus.of(sources[i]),
+                        TransactionStatus.of(targets[i]), change.amount());
+            }
+            updated++;
+        }
+        totals.updated.add(updated);
+        totals.conflicted.add(size - updated);
+        meterRegistry.counter("transactions.status.updates", "outcome", StatusUpdateResult.UPDATED).increment(updated);
+        meterRegistry.counter("transactions.status.updates", "outcome", StatusUpdateResult.CONFLICT).increment(size - updated);
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Running totals of one {@link #process} call, updated by all of its workers without locking.
+     */
+    private static final class Totals {
+        final LongAdder updated = new LongAdder();
+        final LongAdder conflicted = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder[] cents = new LongAdder[TransactionStatus.values().length];
+        final Set<LocalDate> days = ConcurrentHashMap.newKeySet();
+
+        Totals() {
+            Arrays.setAll(cents, i -> new LongAdder());
+        }
+
+        void add(TransactionStatus status, BigDecimal amount) {
+            if (amount != null) {
+                cents[status.ordinal()].add(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+            }
+        }
+
+        StatusUpdateResponse toResponse(String merchantId, StatusUpdateResult[] results) {
+            Map<String, BigDecimal> amountByStatus = new LinkedHashMap<>();
+            for (TransactionStatus status : TransactionStatus.values()) {
+                long sum = cents[status.ordinal()].sum();
+                if (sum != 0) {
+                    amountByStatus.put(status.code(), BigDecimal.valueOf(sum, 2));
+                }
+            }
+            return new StatusUpdateResponse(merchantId, updated.intValue(), conflicted.intValue(), rejected.intValue(),
+                    failed.intValue(), amountByStatus, Arrays.asList(results));
+        }
+    }
+}
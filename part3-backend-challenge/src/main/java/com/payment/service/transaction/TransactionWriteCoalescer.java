@@ -0,0 +1,152 @@
+package com.payment.service.transaction;
+
+import com.payment.entity.TransactionMaster;
+import com.payment.repository.TransactionBatchRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group commit for single transaction creates. Concurrent {@link #submit} calls are collected for up to
+ * {@code max-latency} or {@code max-batch-size} items, whichever comes first, and written as one multi-row
+ * insert in one database transaction. Each caller gets back the id generated for its own row.
+ * <p>
+ * At most {@code max-pending} creates wait for a batch; beyond that {@link #submit} fails fast instead of queueing
+ * without bound. On shutdown the queued creates are still written, for up to {@code drain-timeout}.
+ */
+@Singleton
+@Requires(property = "transactions.write-coalescing.enabled", value = "true")
+public class TransactionWriteCoalescer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionWriteCoalescer.class);
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final DistributionSummary batchSizes;
+    private final Sinks.Many<PendingWrite> pending;
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+    private final Duration drainTimeout;
+    private final Disposable writer;
+
+    @Inject
+    public TransactionWriteCoalescer(TransactionBatchRepository transactionBatchRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${transactions.write-coalescing.max-batch-size:64}") int maxBatchSize,
+                                     @Value("${transactions.write-coalescing.max-latency:5ms}") Duration maxLatency,
+                                     @Value("${transactions.write-coalescing.concurrency:2}") int concurrency,
+                                     @Value("${transactions.write-coalescing.max-pending:4096}") int maxPending,
+                                     @Value("${transactions.write-coalescing.drain-timeout:10s}") Duration drainTimeout) {
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.pending = Sinks.many().unicast().onBackpressureBuffer(Queues.<PendingWrite>get(maxPending).get());
+        this.drainTimeout = drainTimeout;
+        this.batchSizes = DistributionSummary.builder("transactions.create.batch.size")
+                .description("Number of transaction creates written per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.writer = pending.asFlux()
+                .bufferTimeout(maxBatchSize, maxLatency, true)
+                .doOnNext(batch -> batchSizes.record(batch.size()))
+                .flatMap(batch -> Mono.fromRunnable(() -> write(batch))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .onErrorResume(e -> {
+                                    LOG.error("Group commit of {} transactions failed", batch.size(), e);
+                                    batch.forEach(write -> write.result().tryEmitError(e));
+                                    return Mono.empty();
+                                }),
+                        concurrency)
+                .doOnDiscard(PendingWrite.class, write -> write.result().tryEmitError(
+                        new IllegalStateException("Transaction write coalescer is shut down")))
+                .subscribe(null,
+                        e -> {
+                            LOG.error("Transaction write coalescer stopped", e);
+                            drained.tryEmitEmpty();
+                        },
+                        drained::tryEmitEmpty);
+    }
+
+    /**
+     * Queues the transaction for the next group commit.
+     *
+     * @return the generated transaction id once the batch containing it has committed; an
+     *         {@link IllegalStateException} if {@code max-pending} creates are already queued or the coalescer is closed
+     */
+    public Mono<Long> submit(TransactionMaster transaction) {
+        return Mono.defer(() -> {
+            Sinks.One<Long> result = Sinks.one();
+            PendingWrite write = new PendingWrite(transaction, result);
+            // Callers emit from many threads; spinning serializes them instead of failing the emission. emitNext is
+            // not used because an overflow there terminates the sink, and with it the writer.
+            long deadline = System.nanoTime() + EMIT_TIMEOUT.toNanos();
+            Sinks.EmitResult emitted;
+            while ((emitted = pending.tryEmitNext(write)) == Sinks.EmitResult.FAIL_NON_SERIALIZED
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException(emitted == Sinks.EmitResult.FAIL_OVERFLOW
+                        || emitted == Sinks.EmitResult.FAIL_NON_SERIALIZED
+                        ? "Too many pending transaction creates"
+                        : "Transaction write coalescer is shut down"));
+            }
+            return result.asMono();
+        });
+    }
+
+    private void write(List<PendingWrite> batch) {
+        List<TransactionMaster> masters = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            masters.add(write.transaction());
+        }
+        try {
+            transactionBatchRepository.insert(masters, null);
+            for (PendingWrite write : batch) {
+                write.result().tryEmitValue(write.transaction().getTxnId());
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().tryEmitError(e);
+                return;
+            }
+            // One bad row must not fail its neighbours: retry each row on its own.
+            LOG.warn("Group commit of {} transactions failed, retrying individually", batch.size(), e);
+            for (PendingWrite write : batch) {
+                write(List.of(write));
+            }
+        }
+    }
+
+    /**
+     * Stops accepting creates and waits up to {@code drain-timeout} for the queued ones to commit. Creates still
+     * queued after that fail rather than leave their callers waiting.
+     */
+    @PreDestroy
+    void close() {
+        pending.tryEmitComplete();
+        try {
+            drained.asMono().block(drainTimeout);
+        } catch (IllegalStateException e) {
+            LOG.warn("Queued transaction creates did not commit within {}", drainTimeout);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private record PendingWrite(TransactionMaster transaction, Sinks.One<Long> result) {
+    }
+}
@@ -0,0 +1,26 @@
+-- Daily settlement per acquirer member, merchant and currency, written per closed txn_date by SettlementRepository.
+-- A day is settled when it has a row in settlement_runs, even if it had no transactions. Status changes and
+-- back-dated creates set dirty, and the next settlement run recomputes the day.
+CREATE TABLE IF NOT EXISTS operators.settlement_runs (
+    settlement_date DATE PRIMARY KEY,
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    dirty BOOLEAN NOT NULL DEFAULT false
+);
+
+-- For settlement_runs created before dirty existed.
+ALTER TABLE operators.settlement_runs ADD COLUMN IF NOT EXISTS dirty BOOLEAN NOT NULL DEFAULT false;
+
+CREATE TABLE IF NOT EXISTS operators.daily_settlements (
+    settlement_date DATE NOT NULL REFERENCES operators.settlement_runs (settlement_date),
+    member_id BIGINT NOT NULL,
+    merchant_id VARCHAR(50) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    txn_count BIGINT NOT NULL,
+    completed_amount DECIMAL(18,2) NOT NULL,
+    fee_amount DECIMAL(18,2) NOT NULL,
+    refund_amount DECIMAL(18,2) NOT NULL,
+    PRIMARY KEY (settlement_date, member_id, merchant_id, currency)
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_settlements_merchant
+    ON operators.daily_settlements (merchant_id, settlement_date);
@@ -0,0 +1,11 @@
+-- For unpartitioned tables created before part1-database-challenge/schema.sql declared these indexes.
+-- TransactionPartitioning.sql creates the same indexes on the partitioned table (where CONCURRENTLY is not available).
+-- Supports keyset pagination of merchant transaction listings:
+-- WHERE merchant_id = ? AND (created_at, txn_id) < (?, ?) ORDER BY created_at DESC, txn_id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tm_merchant_created_txn
+    ON operators.transaction_master (merchant_id, created_at DESC, txn_id DESC);
+
+-- Covers status-filtered listings: WHERE merchant_id = ? AND status = ? ORDER BY created_at DESC, txn_id DESC
+-- is a single range scan, and the per-status totals read amount from the index without visiting the heap.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tm_merchant_status_created
+    ON operators.transaction_master (merchant_id, status, created_at DESC, txn_id DESC) INCLUDE (amount);
@@ -0,0 +1,103 @@
+-- Converts operators.transaction_master and operators.transaction_details into tables range-partitioned by
+-- txn_date, one partition per day. transaction_details.txn_date is (re)filled from its master's txn_date, so both
+-- tables prune on the same key and details are found in the partition of their master's day. Databases created
+-- before schema.sql carried that column get it here.
+--
+-- Run once, with writers stopped: existing rows are copied into the new tables in a single transaction.
+-- Afterwards PartitionManager creates upcoming partitions and detaches expired ones
+-- (transactions.partitions.* in application.yml).
+
+BEGIN;
+
+ALTER TABLE operators.transaction_details RENAME TO transaction_details_unpartitioned;
+ALTER TABLE operators.transaction_details_unpartitioned RENAME CONSTRAINT transaction_details_pkey TO transaction_details_unpartitioned_pkey;
+ALTER TABLE operators.transaction_master RENAME TO transaction_master_unpartitioned;
+ALTER TABLE operators.transaction_master_unpartitioned RENAME CONSTRAINT transaction_master_pkey TO transaction_master_unpartitioned_pkey;
+
+-- The primary key of a partitioned table must contain the partition key. txn_id values still come from the
+-- original sequence and stay unique on their own.
+CREATE TABLE operators.transaction_master (
+    txn_id BIGINT NOT NULL DEFAULT nextval('operators.transaction_master_txn_id_seq'),
+    merchant_id VARCHAR(50) NOT NULL,
+    gp_acquirer_id BIGINT REFERENCES operators.members(member_id),
+    gp_issuer_id BIGINT REFERENCES operators.members(member_id),
+    txn_date DATE NOT NULL,
+    local_txn_date_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    status VARCHAR(20) NOT NULL CHECK (status IN ('pending', 'completed', 'failed', 'reversed')),
+    card_type VARCHAR(20),
+    card_last4 VARCHAR(4),
+    auth_code VARCHAR(20),
+    response_code VARCHAR(10),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (txn_id, txn_date)
+) PARTITION BY RANGE (txn_date);
+
+CREATE TABLE operators.transaction_details (
+    txn_detail_id BIGINT NOT NULL DEFAULT nextval('operators.transaction_details_txn_detail_id_seq'),
+    master_txn_id BIGINT NOT NULL,
+    txn_date DATE NOT NULL,
+    detail_type VARCHAR(50) NOT NULL CHECK (detail_type IN ('fee', 'tax', 'adjustment', 'refund', 'chargeback')),
+    amount DECIMAL(15,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    description TEXT,
+    local_txn_date_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (txn_detail_id, txn_date)
+) PARTITION BY RANGE (txn_date);
+
+-- Catches rows outside the daily partitions (e.g. far back-dated) instead of failing the insert.
+CREATE TABLE operators.transaction_master_default PARTITION OF operators.transaction_master DEFAULT;
+CREATE TABLE operators.transaction_details_default PARTITION OF operators.transaction_details DEFAULT;
+
+-- One partition per day from the oldest existing transaction through a week ahead.
+DO $$
+DECLARE
+    d DATE := COALESCE((SELECT MIN(txn_date) FROM operators.transaction_master_unpartitioned), CURRENT_DATE);
+BEGIN
+    WHILE d <= CURRENT_DATE + 7 LOOP
+        EXECUTE format('CREATE TABLE operators.%I PARTITION OF operators.transaction_master FOR VALUES FROM (%L) TO (%L)',
+                       'transaction_master_p' || to_char(d, 'YYYYMMDD'), d, d + 1);
+        EXECUTE format('CREATE TABLE operators.%I PARTITION OF operators.transaction_details FOR VALUES FROM (%L) TO (%L)',
+                       'transaction_details_p' || to_char(d, 'YYYYMMDD'), d, d + 1);
+        d := d + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO operators.transaction_master
+SELECT txn_id, merchant_id, gp_acquirer_id, gp_issuer_id, txn_date, local_txn_date_time, amount, currency, status,
+       card_type, card_last4, auth_code, response_code, created_at
+FROM operators.transaction_master_unpartitioned;
+
+INSERT INTO operators.transaction_details
+    (txn_detail_id, master_txn_id, txn_date, detail_type, amount, currency, description, local_txn_date_time, created_at)
+SELECT td.txn_detail_id, td.master_txn_id, tm.txn_date, td.detail_type, td.amount, td.currency, td.description,
+       td.local_txn_date_time, td.created_at
+FROM operators.transaction_details_unpartitioned td
+JOIN operators.transaction_master_unpartitioned tm ON tm.txn_id = td.master_txn_id;
+
+-- Keep the sequences when the old tables go away.
+ALTER SEQUENCE operators.transaction_master_txn_id_seq OWNED BY operators.transaction_master.txn_id;
+ALTER SEQUENCE operators.transaction_details_txn_detail_id_seq OWNED BY operators.transaction_details.txn_detail_id;
+
+DROP TABLE operators.transaction_details_unpartitioned;
+DROP TABLE operators.transaction_master_unpartitioned;
+
+-- Created on the parents, so every current and future partition gets them.
+ALTER TABLE operators.transaction_details
+    ADD FOREIGN KEY (master_txn_id, txn_date) REFERENCES operators.transaction_master (txn_id, txn_date);
+CREATE INDEX idx_tm_merchant_created_txn
+    ON operators.transaction_master (merchant_id, created_at DESC, txn_id DESC);
+CREATE INDEX idx_tm_merchant_status_created
+    ON operators.transaction_master (merchant_id, status, created_at DESC, txn_id DESC) INCLUDE (amount);
+CREATE INDEX idx_transaction_details_master_txn_id
+    ON operators.transaction_details (master_txn_id);
+
+COMMENT ON COLUMN operators.transaction_master.txn_date IS 'Transaction date, partition key (one partition per day)';
+COMMENT ON COLUMN operators.transaction_details.txn_date IS 'txn_date of the master transaction, partition key';
+
+COMMIT;
+
+ANALYZE operators.transaction_master;
+ANALYZE operators.transaction_details;
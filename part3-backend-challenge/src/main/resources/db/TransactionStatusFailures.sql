@@ -0,0 +1,13 @@
+-- Status transitions that could not be written, recorded by TransactionStatusRepository so a failed
+-- batch item leaves a trace in the database and not only in the HTTP response.
+CREATE TABLE IF NOT EXISTS operators.transaction_status_failures (
+    failure_id BIGSERIAL PRIMARY KEY,
+    txn_id BIGINT NOT NULL,
+    merchant_id VARCHAR(50) NOT NULL,
+    target_status VARCHAR(20) NOT NULL,
+    error TEXT,
+    failed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_status_failures_txn
+    ON operators.transaction_status_failures (txn_id);
@@ -0,0 +1,116 @@
+package com.payment.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.payment.dto.Pagination;
+import com.payment.dto.RestResponse;
+import com.payment.dto.settlement.Settlement;
+import com.payment.dto.transaction.Detail;
+import com.payment.dto.transaction.Summary;
+import com.payment.dto.transaction.TransactionResponse;
+import com.payment.dto.transaction.Transactions;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CborMessageBodyWriterTest {
+
+    private static ApplicationContext context;
+    private static CborMessageBodyWriter writer;
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    public static void setUp() {
+        context = SerdeContexts.start();
+        writer = new CborMessageBodyWriter(context.getBean(SerdeRegistry.class));
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    public void testWrite_RoundTripsListingWithAmountsInHundredths() throws Exception {
+        RestResponse<TransactionResponse> envelope = RestResponse.success(listing());
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Argument<Object> type = (Argument) Argument.of(RestResponse.class, TransactionResponse.class);
+        CborMessageBodyWriter specific = (CborMessageBodyWriter) writer.createSpecific(type);
+
+        JsonNode cbor = new CBORMapper().readTree(specific.writeValueAsBytes(envelope));
+        JsonNode json = new JsonMapper().readTree(objectMapper.writeValueAsBytes(envelope));
+
+        assertThat(fieldPaths(cbor, "")).isEqualTo(fieldPaths(json, ""));
+        JsonNode transaction = cbor.at("/data/transactions/0");
+        assertThat(transaction.get("amount").isIntegralNumber()).isTrue();
+        assertThat(transaction.get("amount").longValue()).isEqualTo(12345L);
+        assertThat(transaction.at("/details/0/amount").longValue()).isEqualTo(150L);
+        assertThat(transaction.at("/details/1/amount").longValue()).isEqualTo(-7L);
+        assertThat(cbor.at("/data/summary/totalAmount").longValue()).isEqualTo(1000000L);
+        assertThat(transaction.get("timestamp").textValue()).isEqualTo(json.at("/data/transactions/0/timestamp").textValue());
+        assertThat(cbor.at("/data/pagination/nextCursor").textValue()).isEqualTo("abc");
+        assertThat(cbor.get("code").textValue()).isEqualTo(RestResponse.SUCCESS_CODE);
+    }
+
+    @Test
+    public void testWrite_KeepsOtherDecimalsExact() throws Exception {
+        Settlement settlement = new Settlement(LocalDate.of(2025, 11, 20), 1L, "Global Payment Services", "MERCH001",
+                "USD", 3, new BigDecimal("100.00"), new BigDecimal("33.333"), new BigDecimal("1.50"),
+                BigDecimal.ZERO, new BigDecimal("98.50"));
+
+        JsonNode cbor = new CBORMapper().readTree(writer.writeValueAsBytes(settlement));
+
+        assertThat(cbor.get("avgAmount").decimalValue()).isEqualByComparingTo("33.333");
+        assertThat(cbor.get("completedAmount").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(cbor.get("txnCount").longValue()).isEqualTo(3L);
+    }
+
+    private static TransactionResponse listing() {
+        Instant now = Instant.parse("2025-11-20T10:15:30Z");
+        TransactionResponse response = new TransactionResponse();
+        response.setMerchantId("MERCH001");
+        response.setDateRange(new TransactionResponse.DateRange(now.minusSeconds(86_400), now));
+        response.setSummary(new Summary(2L, new BigDecimal("10000.00"), "USD", Map.of("completed", 2L)));
+        response.setPagination(new Pagination(0, 20, 1, 2L, false, "abc"));
+        response.setTransactions(List.of(
+                new Transactions(1L, new BigDecimal("123.45"), "USD", "completed", now, "VISA", "4242",
+                        "Global Payment Services", "Visa Worldwide", List.of(
+                        new Detail(10L, "fee", new BigDecimal("1.5"), "Processing fee"),
+                        new Detail(11L, "adjustment", new BigDecimal("-0.07"), null))),
+                new Transactions(2L, new BigDecimal("9876.55"), "USD", "completed", now, null, null, null, null,
+                        List.of())));
+        return response;
+    }
+
+    private static List<String> fieldPaths(JsonNode node, String path) {
+        List<String> paths = new ArrayList<>();
+        if (node.isObject()) {
+            for (Iterator<String> names = node.fieldNames(); names.hasNext(); ) {
+                String name = names.next();
+                paths.add(path + "/" + name);
+                paths.addAll(fieldPaths(node.get(name), path + "/" + name));
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                paths.addAll(fieldPaths(node.get(i), path + "/" + i));
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,37 @@
+package com.payment.codec;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.DefaultApplicationContext;
+import io.micronaut.inject.BeanDefinitionReference;
+
+import java.util.List;
+
+/**
+ * Shared by the codec tests and the JMH benchmarks, which compile against the test sources.
+ */
+public final class SerdeContexts {
+
+    private SerdeContexts() {
+    }
+
+    /**
+     * A started context with only the serde beans, the way {@code ObjectMapper.create} builds one, but exposing the
+     * {@link io.micronaut.serde.SerdeRegistry} the CBOR writer needs. No datasource or other application bean is
+     * created.
+     */
+    public static ApplicationContext start() {
+        ApplicationContext context = new DefaultApplicationContext() {
+            @Override
+            protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
+                return super.resolveBeanDefinitionReferences().stream()
+                        .filter(reference -> reference.getBeanDefinitionName().startsWith("io.micronaut.serde"))
+                        .toList();
+            }
+
+            @Override
+            public void publishEvent(Object event) {
+            }
+        };
+        return context.start();
+    }
+}
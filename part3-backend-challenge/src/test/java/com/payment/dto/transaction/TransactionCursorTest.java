@@ -0,0 +1,24 @@
+package com.payment.dto.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TransactionCursorTest {
+
+    @Test
+    public void testEncodeDecode_RoundTrip() {
+        TransactionCursor cursor = new TransactionCursor(Instant.parse("2025-11-17T10:15:30.123456Z"), 42L);
+
+        assertThat(TransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    public void testDecode_InvalidToken() {
+        assertThatThrownBy(() -> TransactionCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
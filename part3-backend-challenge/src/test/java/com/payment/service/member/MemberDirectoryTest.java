@@ -0,0 +1,44 @@
+package com.payment.service.member;
+
+import com.payment.entity.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberDirectoryTest {
+
+    @Test
+    public void testNameOf_ResolvesLoadedMembers() {
+        List<Member> members = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            members.add(member(id, "Member " + id));
+        }
+        MemberDirectory directory = new MemberDirectory(null);
+
+        assertThat(directory.load(members)).isEqualTo(500);
+        assertThat(directory.nameOf(1L)).isEqualTo("Member 1");
+        assertThat(directory.nameOf(500L)).isEqualTo("Member 500");
+        assertThat(directory.nameOf(501L)).isNull();
+        assertThat(directory.nameOf(null)).isNull();
+    }
+
+    @Test
+    public void testLoad_ReplacesPreviousSnapshot() {
+        MemberDirectory directory = new MemberDirectory(null);
+        directory.load(List.of(member(1L, "Global Payment Services")));
+        directory.load(List.of(member(2L, "Visa Worldwide")));
+
+        assertThat(directory.nameOf(1L)).isNull();
+        assertThat(directory.nameOf(2L)).isEqualTo("Visa Worldwide");
+    }
+
+    private static Member member(long id, String name) {
+        Member member = new Member();
+        member.setMemberId(id);
+        member.setMemberName(name);
+        return member;
+    }
+}
@@ -0,0 +1,127 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.transaction.MerchantStatusTotal;
+import com.payment.dto.transaction.StatusSummary;
+import com.payment.entity.TransactionMaster;
+import com.payment.entity.TransactionStatus;
+import com.payment.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TodayCountersTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 20);
+
+    @Test
+    public void testSummaries_EmptyUntilSeededThenCountsCreatesOfToday() {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        when(repository.getDailyTotals(DAY)).thenReturn(Flux.just(
+                new MerchantStatusTotal("MERCH001", "completed", 3L, new BigDecimal("30.00")),
+                new MerchantStatusTotal("MERCH001", "pending", 1L, new BigDecimal("5.50")),
+                new MerchantStatusTotal("MERCH002", "completed", 7L, new BigDecimal("70.00"))));
+        TodayCounters counters = new TodayCounters(repository, new MutableClock(DAY.atTime(10, 0)));
+
+        assertThat(counters.summaries("MERCH001", DAY, null)).isEmpty();
+
+        counters.onStartup(null);
+        counters.record(master("MERCH001", DAY, "completed", "10.00"));
+        counters.record(master("MERCH001", DAY.minusDays(1), "completed", "99.00"));
+
+        assertThat(counters.summaries("MERCH001", DAY, null)).hasValueSatisfying(summaries -> assertThat(summaries)
+                .containsExactlyInAnyOrder(
+                        new StatusSummary("pending", 1L, new BigDecimal("5.50")),
+                        new StatusSummary("completed", 4L, new BigDecimal("40.00"))));
+        assertThat(counters.summaries("MERCH001", DAY, "pending")).hasValueSatisfying(summaries -> assertThat(summaries)
+                .containsExactly(new StatusSummary("pending", 1L, new BigDecimal("5.50"))));
+        assertThat(counters.summaries("MERCH003", DAY, null)).hasValueSatisfying(summaries -> assertThat(summaries).isEmpty());
+        assertThat(counters.summaries("MERCH001", DAY.minusDays(1), null)).isEmpty();
+    }
+
+    @Test
+    public void testTransition_MovesCountAndAmountBetweenStatuses() {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        when(repository.getDailyTotals(DAY)).thenReturn(Flux.just(
+                new MerchantStatusTotal("MERCH001", "pending", 2L, new BigDecimal("20.00"))));
+        TodayCounters counters = new TodayCounters(repository, new MutableClock(DAY.atTime(10, 0)));
+        counters.onStartup(null);
+
+        counters.transition("MERCH001", DAY, TransactionStatus.PENDING, TransactionStatus.COMPLETED, new BigDecimal("12.50"));
+        counters.transition("MERCH001", DAY.minusDays(1), TransactionStatus.PENDING, TransactionStatus.FAILED, BigDecimal.ONE);
+
+        assertThat(counters.summaries("MERCH001", DAY, null)).hasValueSatisfying(summaries -> assertThat(summaries)
+                .containsExactlyInAnyOrder(
+                        new StatusSummary("pending", 1L, new BigDecimal("7.50")),
+                        new StatusSummary("completed", 1L, new BigDecimal("12.50"))));
+    }
+
+    @Test
+    public void testRollover_StartsTheNextDayEmptyAndSeeded() {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        when(repository.getDailyTotals(DAY)).thenReturn(Flux.error(new IllegalStateException("database down")));
+        MutableClock clock = new MutableClock(DAY.atTime(23, 59));
+        TodayCounters counters = new TodayCounters(repository, clock);
+
+        counters.onStartup(null);
+        counters.record(master("MERCH001", DAY, "completed", "10.00"));
+        assertThat(counters.summaries("MERCH001", DAY, null)).isEmpty();
+
+        LocalDate next = DAY.plusDays(1);
+        clock.set(next.atTime(0, 1));
+        assertThat(counters.summaries("MERCH001", DAY, null)).isEmpty();
+        assertThat(counters.summaries("MERCH001", next, null)).hasValueSatisfying(summaries -> assertThat(summaries).isEmpty());
+
+        counters.record(master("MERCH001", next, "completed", "3.00"));
+        counters.record(master("MERCH001", DAY, "completed", "10.00"));
+        assertThat(counters.summaries("MERCH001", next, null)).hasValueSatisfying(summaries -> assertThat(summaries)
+                .containsExactly(new StatusSummary("completed", 1L, new BigDecimal("3.00"))));
+    }
+
+    private static TransactionMaster master(String merchantId, LocalDate txnDate, String status, String amount) {
+        TransactionMaster tm = new TransactionMaster();
+        tm.setMerchantId(merchantId);
+        tm.setTxnDate(java.sql.Date.valueOf(txnDate));
+        tm.setStatus(status);
+        tm.setAmount(new BigDecimal(amount));
+        return tm;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        void set(LocalDateTime now) {
+            this.now = now.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.payment.service.transaction;
+
+import com.payment.dto.settlement.SettlementRequest;
+import com.payment.dto.settlement.SettlementResponse;
+import com.payment.dto.transaction.StatusChange;
+import com.payment.dto.transaction.StatusUpdateItem;
+import com.payment.dto.transaction.StatusUpdateResponse;
+import com.payment.dto.transaction.StatusUpdateResult;
+import com.payment.repository.TransactionStatusRepository;
+import com.payment.service.settlement.SettlementService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransactionStatusProcessorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 20);
+
+    @Test
+    public void testProcess_ReportsRejectedConflictedAndFailedItemsInRequestOrder() {
+        StubStatusRepository repository = new StubStatusRepository(Set.of(1L, 5L, 7L, 8L), Set.of(6L));
+        StubSettlementService settlements = new StubSettlementService();
+        TransactionStatusProcessor processor = processor(repository, settlements, 2, 4);
+
+        List<StatusUpdateItem> items = new ArrayList<>(List.of(
+                new StatusUpdateItem(1L, "completed"),
+                new StatusUpdateItem(null, "completed"),
+                new StatusUpdateItem(2L, "settled"),
+                new StatusUpdateItem(3L, "pending"),
+                new StatusUpdateItem(1L, "failed"),
+                new StatusUpdateItem(4L, "completed"),
+                new StatusUpdateItem(5L, "reversed"),
+                new StatusUpdateItem(6L, "completed"),
+                new StatusUpdateItem(7L, "completed"),
+                new StatusUpdateItem(8L, "COMPLETED")));
+        StatusUpdateResponse response = processor.process("MERCH001", items).block(TIMEOUT);
+
+        // Valid items are chunked in request order: [1, 4], [5, 6], [7, 8]; the chunk holding 6 fails as a whole.
+        assertThat(response.results()).extracting(StatusUpdateResult::index)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(response.results()).extracting(StatusUpdateResult::transactionId)
+                .containsExactly(1L, null, 2L, 3L, 1L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(response.results()).extracting(StatusUpdateResult::outcome).containsExactly(
+                StatusUpdateResult.UPDATED,
+                StatusUpdateResult.REJECTED,
+                StatusUpdateResult.REJECTED,
+                StatusUpdateResult.REJECTED,
+                StatusUpdateResult.REJECTED,
+                StatusUpdateResult.CONFLICT,
+                StatusUpdateResult.FAILED,
+                StatusUpdateResult.FAILED,
+                StatusUpdateResult.UPDATED,
+                StatusUpdateResult.UPDATED);
+        assertThat(response.results().get(1).error()).isEqualTo("txnId is required");
+        assertThat(response.results().get(2).error()).isEqualTo("Unknown status: settled");
+        assertThat(response.results().get(3).error()).isEqualTo("Transactions cannot be moved to pending");
+        assertThat(response.results().get(4).error()).isEqualTo("Duplicate txnId: 1");
+        assertThat(response.results().get(5).error()).isEqualTo("Not found or not pending");
+        assertThat(response.results().get(7).error()).isEqualTo("deadlock detected");
+
+        assertThat(response.updated()).isEqualTo(3);
+        assertThat(response.conflicted()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(4);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.amountByStatus()).containsExactly(Map.entry("completed", new BigDecimal("16.00")));
+
+        assertThat(repository.recordedFailures).containsExactlyInAnyOrder(5L, 6L);
+        assertThat(settlements.changedDays).containsExactlyInAnyOrder(DAY.minusDays(1), DAY.minusDays(7), DAY.minusDays(8));
+        processor.close();
+    }
+
+    @Test
+    public void testProcess_KeepsRequestOrderAcrossConcurrentChunks() {
+        Set<Long> existing = ConcurrentHashMap.newKeySet();
+        LongStream.rangeClosed(1, 1000).forEach(existing::add);
+        TransactionStatusProcessor processor = processor(new StubStatusRepository(existing, Set.of()),
+                new StubSettlementService(), 7, 4);
+
+        List<StatusUpdateItem> items = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            items.add(new StatusUpdateItem(id, "completed"));
+        }
+        StatusUpdateResponse response = processor.process("MERCH001", items).block(TIMEOUT);
+
+        assertThat(response.updated()).isEqualTo(1000);
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(response.results().get(i).index()).isEqualTo(i);
+            assertThat(response.results().get(i).transactionId()).isEqualTo(items.get(i).txnId());
+        }
+        processor.close();
+    }
+
+    private static TransactionStatusProcessor processor(TransactionStatusRepository repository,
+                                                        SettlementService settlementService,
+                                                        int chunkSize, int parallelism) {
+        return new TransactionStatusProcessor(repository, settlementService, null, new SimpleMeterRegistry(),
+                Executors.newFixedThreadPool(parallelism), chunkSize, parallelism);
+    }
+
+    /**
+     * Applies every transition of an {@code existing} id, dated {@code id} days before {@link #DAY} with an amount
+     * of {@code id}, and fails any chunk containing a {@code failing} id.
+     */
+    private static class StubStatusRepository extends TransactionStatusRepository {
+
+        final Set<Long> existing;
+        final Set<Long> failing;
+        final List<Long> recordedFailures = Collections.synchronizedList(new ArrayList<>());
+
+        StubStatusRepository(Set<Long> existing, Set<Long> failing) {
+            super(null);
+            this.existing = existing;
+            this.failing = failing;
+        }
+
+        @Override
+        public List<StatusChange> transition(String merchantId, Long[] txnIds, String[] toStatuses,
+                                             String[] fromStatuses) {
+            List<StatusChange> changes = new ArrayList<>();
+            for (int i = 0; i < txnIds.length; i++) {
+                if (failing.contains(txnIds[i])) {
+                    throw new IllegalStateException("deadlock detected");
+                }
+                if (existing.contains(txnIds[i])) {
+                    changes.add(new StatusChange(txnIds[i], DAY.minusDays(txnIds[i]), BigDecimal.valueOf(txnIds[i]),
+                            toStatuses[i]));
+                }
+            }
+            return changes;
+        }
+
+        @Override
+        public void recordFailures(String merchantId, Long[] txnIds, String[] targetStatuses, String error) {
+            recordedFailures.addAll(List.of(txnIds));
+        }
+    }
+
+    private static class StubSettlementService implements SettlementService {
+
+        final Set<LocalDate> changedDays = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Mono<SettlementResponse> getSettlements(SettlementRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Integer> settle(LocalDate from, LocalDate to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> markChanged(Collection<LocalDate> days) {
+            return Mono.fromRunnable(() -> changedDays.addAll(days));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.payment.service.transaction;
+
+import com.payment.entity.TransactionDetail;
+import com.payment.entity.TransactionMaster;
+import com.payment.repository.TransactionBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TransactionWriteCoalescerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void testSubmit_GroupsConcurrentCreatesAndReturnsEachCallerItsId() {
+        StubBatchRepository repository = new StubBatchRepository();
+        TransactionWriteCoalescer coalescer = coalescer(repository, 10, Duration.ofSeconds(1), 100);
+
+        List<TransactionMaster> masters = new ArrayList<>();
+        List<Mono<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            TransactionMaster tm = master("1.00");
+            masters.add(tm);
+            results.add(coalescer.submit(tm));
+        }
+        List<Long> ids = Flux.mergeSequential(results).collectList().block(TIMEOUT);
+
+        // Batches are capped at max-batch-size; how the creates split across them depends on downstream demand.
+        assertThat(repository.batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 10));
+        assertThat(repository.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(repository.batchSizes).contains(10);
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+        for (int i = 0; i < masters.size(); i++) {
+            assertThat(ids.get(i)).isEqualTo(masters.get(i).getTxnId());
+        }
+        coalescer.close();
+    }
+
+    @Test
+    public void testSubmit_RetriesRowsIndividuallyWhenBatchFails() {
+        StubBatchRepository repository = new StubBatchRepository();
+        TransactionWriteCoalescer coalescer = coalescer(repository, 3, Duration.ofSeconds(1), 100);
+
+        Mono<Long> first = coalescer.submit(master("1.00")).cache();
+        Mono<Long> bad = coalescer.submit(master("-1.00")).cache();
+        Mono<Long> third = coalescer.submit(master("3.00")).cache();
+        for (Mono<Long> result : List.of(first, bad, third)) {
+            result.subscribe(id -> { }, error -> { });
+        }
+
+        assertThat(first.block(TIMEOUT)).isNotNull();
+        assertThat(third.block(TIMEOUT)).isNotNull();
+        assertThatThrownBy(() -> bad.block(TIMEOUT)).hasMessageContaining("negative amount");
+        assertThat(repository.batchSizes).containsExactly(3, 1, 1, 1);
+        coalescer.close();
+    }
+
+    @Test
+    public void testSubmit_FailsFastWhenQueueIsFull() throws InterruptedException {
+        StubBatchRepository repository = new StubBatchRepository();
+        repository.gate = new CountDownLatch(1);
+        TransactionWriteCoalescer coalescer = coalescer(repository, 1, Duration.ofMillis(1), 2);
+
+        coalescer.submit(master("1.00")).subscribe();
+        assertThat(repository.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The first write holds the only writer; beyond what the batcher has prefetched, two creates fit in the queue.
+        List<Throwable> rejected = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 20; i++) {
+            coalescer.submit(master("1.00")).subscribe(id -> { }, rejected::add);
+        }
+
+        assertThat(rejected).isNotEmpty()
+                .allSatisfy(error -> assertThat(error).hasMessage("Too many pending transaction creates"));
+        repository.gate.countDown();
+        coalescer.close();
+    }
+
+    @Test
+    public void testClose_WritesQueuedCreatesBeforeStopping() {
+        StubBatchRepository repository = new StubBatchRepository();
+        TransactionWriteCoalescer coalescer = coalescer(repository, 100, Duration.ofSeconds(30), 100);
+
+        Mono<Long> result = coalescer.submit(master("1.00")).cache();
+        result.subscribe();
+        coalescer.close();
+
+        assertThat(result.block(TIMEOUT)).isNotNull();
+        assertThatThrownBy(() -> coalescer.submit(master("1.00")).block(TIMEOUT))
+                .hasMessage("Transaction write coalescer is shut down");
+    }
+
+    private static TransactionWriteCoalescer coalescer(TransactionBatchRepository repository, int maxBatchSize,
+                                                       Duration maxLatency, int maxPending) {
+        return new TransactionWriteCoalescer(repository, new SimpleMeterRegistry(), maxBatchSize, maxLatency, 1,
+                maxPending, TIMEOUT);
+    }
+
+    private static TransactionMaster master(String amount) {
+        TransactionMaster tm = new TransactionMaster();
+        tm.setMerchantId("MERCH001");
+        tm.setAmount(new BigDecimal(amount));
+        return tm;
+    }
+
+    /**
+     * Assigns sequential ids and rejects any batch containing a negative amount, like a failing check constraint.
+     */
+    private static class StubBatchRepository extends TransactionBatchRepository {
+
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final AtomicLong nextId = new AtomicLong(1);
+        volatile CountDownLatch gate;
+
+        StubBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insert(List<TransactionMaster> masters, List<List<TransactionDetail>> details) {
+            batchSizes.add(masters.size());
+            entered.countDown();
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (masters.stream().anyMatch(tm -> tm.getAmount().signum() < 0)) {
+                throw new IllegalStateException("negative amount");
+            }
+            masters.forEach(tm -> tm.setTxnId(nextId.getAndIncrement()));
+        }
+    }
+}